@@ -0,0 +1,419 @@
+package com.bobocode;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+/**
+ * {@link ConcurrentArrayList} is a thread-safe list implementation for mixed workloads with many concurrent producers.
+ * Elements are kept in a growable array guarded by a {@link StampedLock}. Unlike {@link CopyOnWriteList}, a writer
+ * changes the array in place, so {@link #add(Object)} holds the write lock for an amortized constant time instead of
+ * copying the whole list, and producers spend almost no time waiting for each other. Readers of single positions
+ * don't take the lock at all: {@link #get(int)}, {@link #size()} and {@link #isEmpty()} use an optimistic read and
+ * fall back to the read lock only if a writer got in the way.
+ * <p>
+ * Consistency guarantees:
+ * <ul>
+ * <li>every method is linearizable, i.e. it takes effect atomically at some moment between the call and the return,
+ * which also holds for bulk operations</li>
+ * <li>{@link #size()} returns the exact size at that moment, but a sequence of calls is not atomic, e.g. the size can
+ * change right before a following {@code get(int)}</li>
+ * <li>{@link #contains(Object)} scans the list under the read lock, so it sees all modifications that completed
+ * before it and none that started after it, while it blocks writers for the time of the scan</li>
+ * <li>iterators and spliterators work over a copy of the list taken under the read lock at their creation, they
+ * never throw {@link java.util.ConcurrentModificationException} and don't reflect later modifications</li>
+ * </ul>
+ * The lock is not reentrant, so predicates and comparators passed to the list must not call its methods.
+ *
+ * @param <T> generic type parameter
+ */
+public class ConcurrentArrayList<T> implements List<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private Object[] elements;
+    private int size;
+
+    public ConcurrentArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list which array can hold the given number of elements before it grows
+     *
+     * @param initialCapacity initial capacity of the array
+     */
+    public ConcurrentArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity should not be negative: " + initialCapacity);
+        }
+        this.elements = new Object[initialCapacity];
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> List<T> of(T... elements) {
+        ConcurrentArrayList<T> concurrentArrayList = new ConcurrentArrayList<>(elements.length);
+        concurrentArrayList.addAll(Arrays.asList(elements));
+
+        return concurrentArrayList;
+    }
+
+    /**
+     * Adds an element to the end of the list
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(size + 1);
+            elements[size++] = element;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            ensureCapacity(size + 1);
+            System.arraycopy(elements, index, elements, index + 1, size - index);
+            elements[index] = element;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            elements[index] = element;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Retrieves an elements by its position index, using an optimistic read. In case provided index in out of the
+     * list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] currentElements = elements;
+        int currentSize = size;
+        Object element = index >= 0 && index < currentSize && index < currentElements.length
+                ? currentElements[index] : null;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+                element = index >= 0 && index < currentSize ? elements[index] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        if (index < 0 || index >= currentSize) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return (T) element;
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     */
+    @Override
+    public void remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+            elements[--size] = null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Checks if a specific exists in he list, scanning it under the read lock
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        long stamp = lock.readLock();
+        try {
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(element, elements[i])) {
+                    return true;
+                }
+            }
+
+            return false;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list, using an optimistic read
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        return currentSize;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.fill(elements, 0, size, null);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds all elements of the given collection to the end of the list under a single write lock, so a producer pays
+     * for one lock acquisition per batch
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Object[] addedElements = elements.toArray();
+        long stamp = lock.writeLock();
+        try {
+            ensureCapacity(size + addedElements.length);
+            System.arraycopy(addedElements, 0, this.elements, size, addedElements.length);
+            size += addedElements.length;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts all elements of the given collection into the specific position in the list under a single write lock.
+     * In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, Collection<? extends T> elements) {
+        Object[] addedElements = elements.toArray();
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            ensureCapacity(size + addedElements.length);
+            System.arraycopy(this.elements, index, this.elements, index + addedElements.length, size - index);
+            System.arraycopy(addedElements, 0, this.elements, index, addedElements.length);
+            size += addedElements.length;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all elements that satisfy the given predicate under the write lock. The predicate is tested against every
+     * element before the list is compacted, so the list is left unchanged if the predicate throws an exception
+     *
+     * @param filter a predicate which returns {@code true} for elements to be removed
+     * @return {@code true} if any element was removed, {@code false} otherwise
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        long stamp = lock.writeLock();
+        try {
+            BitSet removedIndexes = new BitSet(size);
+            for (int i = 0; i < size; i++) {
+                if (filter.test((T) elements[i])) {
+                    removedIndexes.set(i);
+                }
+            }
+            if (removedIndexes.isEmpty()) {
+                return false;
+            }
+
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (!removedIndexes.get(i)) {
+                    elements[newSize++] = elements[i];
+                }
+            }
+            Arrays.fill(elements, newSize, size, null);
+            size = newSize;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all elements which index is between {@code fromIndex}, inclusive, and {@code toIndex}, exclusive, with a
+     * single shift of the following elements. In case provided indexes are out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first element to remove
+     * @param toIndex   an index after the last element to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        long stamp = lock.writeLock();
+        try {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("From index: " + fromIndex + ", to index: " + toIndex);
+            }
+
+            System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+            int newSize = size - (toIndex - fromIndex);
+            Arrays.fill(elements, newSize, size, null);
+            size = newSize;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sorts the list in place under the write lock, so readers see either unsorted or sorted list
+     *
+     * @param comparator a comparator used to compare list elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        long stamp = lock.writeLock();
+        try {
+            Arrays.sort(elements, 0, size, (Comparator<Object>) comparator);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns an iterator over a copy of the list taken at the moment of the call. It never throws
+     * {@link java.util.ConcurrentModificationException}.
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a {@link Spliterator} over a copy of the list taken at the moment of the call. It splits the copy into
+     * balanced halves.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(snapshot(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    private Object[] snapshot() {
+        long stamp = lock.readLock();
+        try {
+            return Arrays.copyOf(elements, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Grows the array by half of its length, or more if needed. The caller is expected to hold the write lock.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1) + 1);
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+}
@@ -0,0 +1,393 @@
+package com.bobocode;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * {@link CopyOnWriteList} is a thread-safe list implementation for read-heavy workloads. Elements are kept in an
+ * array that is never changed after it was published. Every modification takes a lock, copies the array, changes the
+ * copy and publishes it through a volatile field, so readers never block and never see a partially applied change.
+ * <p>
+ * Consistency guarantees:
+ * <ul>
+ * <li>{@link #get(int)}, {@link #size()}, {@link #contains(Object)} and {@link #isEmpty()} read a single snapshot,
+ * so each of them returns a result that was true at some moment between the call and the return</li>
+ * <li>a sequence of reads is not atomic, e.g. {@code size()} can change right before a following {@code get(int)}</li>
+ * <li>iterators and spliterators work over the snapshot taken at their creation, they never throw
+ * {@link java.util.ConcurrentModificationException} and don't reflect later modifications</li>
+ * <li>bulk operations are applied atomically, readers see either none or all of their changes</li>
+ * </ul>
+ * Writers are serialized on one lock and copy the whole array, so every modification takes O(n) time. Lists with
+ * many concurrent producers should use {@link ConcurrentArrayList} instead, which writers change in place.
+ *
+ * @param <T> generic type parameter
+ */
+public class CopyOnWriteList<T> implements List<T> {
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Object[] elements = EMPTY_ARRAY;
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> List<T> of(T... elements) {
+        CopyOnWriteList<T> copyOnWriteList = new CopyOnWriteList<>();
+        copyOnWriteList.elements = Arrays.copyOf(elements, elements.length, Object[].class);
+
+        return copyOnWriteList;
+    }
+
+    /**
+     * Adds an element to the end of the list
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        lock.lock();
+        try {
+            Object[] snapshot = elements;
+            Object[] newElements = Arrays.copyOf(snapshot, snapshot.length + 1);
+            newElements[snapshot.length] = element;
+            elements = newElements;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        lock.lock();
+        try {
+            Object[] snapshot = elements;
+            if (index < 0 || index > snapshot.length) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            Object[] newElements = new Object[snapshot.length + 1];
+            System.arraycopy(snapshot, 0, newElements, 0, index);
+            System.arraycopy(snapshot, index, newElements, index + 1, snapshot.length - index);
+            newElements[index] = element;
+            elements = newElements;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        lock.lock();
+        try {
+            Object[] snapshot = elements;
+            if (index < 0 || index >= snapshot.length) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            Object[] newElements = snapshot.clone();
+            newElements[index] = element;
+            elements = newElements;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Object[] snapshot = elements;
+        if (index < 0 || index >= snapshot.length) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        return (T) snapshot[index];
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     */
+    @Override
+    public void remove(int index) {
+        lock.lock();
+        try {
+            Object[] snapshot = elements;
+            if (index < 0 || index >= snapshot.length) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            elements = copyWithoutRange(snapshot, index, index + 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (Object currentElement : elements) {
+            if (Objects.equals(element, currentElement)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            elements = EMPTY_ARRAY;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds all elements of the given collection to the end of the list, copying the array only once
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Object[] addedElements = elements.toArray();
+        lock.lock();
+        try {
+            Object[] snapshot = this.elements;
+            this.elements = copyWithInsertedElements(snapshot, snapshot.length, addedElements);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts all elements of the given collection into the specific position in the list, copying the array only
+     * once. In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, Collection<? extends T> elements) {
+        Object[] addedElements = elements.toArray();
+        lock.lock();
+        try {
+            Object[] snapshot = this.elements;
+            if (index < 0 || index > snapshot.length) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            this.elements = copyWithInsertedElements(snapshot, index, addedElements);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all elements that satisfy the given predicate, copying the array only once
+     *
+     * @param filter a predicate which returns {@code true} for elements to be removed
+     * @return {@code true} if any element was removed, {@code false} otherwise
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        lock.lock();
+        try {
+            Object[] snapshot = elements;
+            Object[] newElements = new Object[snapshot.length];
+            int newSize = 0;
+            for (Object element : snapshot) {
+                if (!filter.test((T) element)) {
+                    newElements[newSize++] = element;
+                }
+            }
+            if (newSize == snapshot.length) {
+                return false;
+            }
+
+            elements = Arrays.copyOf(newElements, newSize);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all elements which index is between {@code fromIndex}, inclusive, and {@code toIndex}, exclusive,
+     * copying the array only once. In case provided indexes are out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first element to remove
+     * @param toIndex   an index after the last element to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        lock.lock();
+        try {
+            Object[] snapshot = elements;
+            if (fromIndex < 0 || toIndex > snapshot.length || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("From index: " + fromIndex + ", to index: " + toIndex);
+            }
+
+            elements = copyWithoutRange(snapshot, fromIndex, toIndex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sorts a copy of the array and publishes it at once, so readers see either unsorted or sorted list
+     *
+     * @param comparator a comparator used to compare list elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        lock.lock();
+        try {
+            Object[] newElements = elements.clone();
+            Arrays.sort(newElements, (Comparator<Object>) comparator);
+            elements = newElements;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over the snapshot of the list taken at the moment of the call. It never throws
+     * {@link java.util.ConcurrentModificationException}.
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new SnapshotIterator<>(elements);
+    }
+
+    /**
+     * Returns a {@link Spliterator} over the snapshot of the list taken at the moment of the call. It splits the
+     * snapshot array into balanced halves.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(elements, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    private static Object[] copyWithInsertedElements(Object[] snapshot, int index, Object[] addedElements) {
+        if (addedElements.length == 0) {
+            return snapshot;
+        }
+
+        Object[] newElements = new Object[snapshot.length + addedElements.length];
+        System.arraycopy(snapshot, 0, newElements, 0, index);
+        System.arraycopy(addedElements, 0, newElements, index, addedElements.length);
+        System.arraycopy(snapshot, index, newElements, index + addedElements.length, snapshot.length - index);
+
+        return newElements;
+    }
+
+    private static Object[] copyWithoutRange(Object[] snapshot, int fromIndex, int toIndex) {
+        Object[] newElements = new Object[snapshot.length - (toIndex - fromIndex)];
+        System.arraycopy(snapshot, 0, newElements, 0, fromIndex);
+        System.arraycopy(snapshot, toIndex, newElements, fromIndex, snapshot.length - toIndex);
+
+        return newElements;
+    }
+
+    private static class SnapshotIterator<T> implements Iterator<T> {
+
+        private final Object[] snapshot;
+        private int index;
+
+        private SnapshotIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < snapshot.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return (T) snapshot[index++];
+        }
+
+    }
+
+}
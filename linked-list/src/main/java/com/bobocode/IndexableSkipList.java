@@ -0,0 +1,343 @@
+package com.bobocode;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Spliterator;
+
+/**
+ * {@link IndexableSkipList} is a list implementation that is based on a skip list, where every forward link also
+ * stores its width, i.e. the number of elements it jumps over. The widths allow to find an element by its position
+ * by descending from the top level, so {@link #get(int)}, {@link #set(int, Object)}, {@link #add(int, Object)} and
+ * {@link #remove(int)} take O(log n) expected time.
+ * <p>
+ * Positions used inside of the list are 1-based, the head node has position 0, and a link that points to
+ * {@code null} is considered to point right after the last element.
+ *
+ * @param <T> generic type parameter
+ */
+public class IndexableSkipList<T> implements List<T> {
+
+    private static final int MAX_LEVEL = 32;
+
+    private final Node<T> headNode = new Node<>(null, MAX_LEVEL);
+    private final Random random = new Random();
+    private int levels = 1;
+    private int size;
+    private int modCount;
+
+    public IndexableSkipList() {
+        Arrays.fill(headNode.width, 1);
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> List<T> of(T... elements) {
+        IndexableSkipList<T> skipList = new IndexableSkipList<>();
+        Arrays.stream(elements).forEach(skipList::add);
+
+        return skipList;
+    }
+
+    /**
+     * Adds an element to the end of the list
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        add(size, element);
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        int position = index + 1;
+        int newLevel = randomLevel();
+        Node<T>[] update = Node.newArray(Math.max(levels, newLevel));
+        int[] updatePosition = new int[update.length];
+        findPredecessors(position, update, updatePosition);
+
+        for (int level = levels; level < newLevel; level++) {
+            update[level] = headNode;
+            updatePosition[level] = 0;
+            headNode.width[level] = size + 1;
+        }
+        levels = Math.max(levels, newLevel);
+
+        Node<T> newNode = new Node<>(element, newLevel);
+        for (int level = 0; level < levels; level++) {
+            Node<T> predecessor = update[level];
+            if (level < newLevel) {
+                int distance = position - updatePosition[level];
+                newNode.next[level] = predecessor.next[level];
+                newNode.width[level] = predecessor.width[level] - distance + 1;
+                predecessor.next[level] = newNode;
+                predecessor.width[level] = distance;
+            } else {
+                predecessor.width[level]++;
+            }
+        }
+        for (int level = levels; level < MAX_LEVEL; level++) {
+            headNode.width[level]++;
+        }
+
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        findNodeByIndex(index).value = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        return findNodeByIndex(index).value;
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     */
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        Node<T>[] update = Node.newArray(levels);
+        findPredecessors(index + 1, update, new int[levels]);
+        Node<T> removedNode = update[0].next[0];
+
+        for (int level = 0; level < levels; level++) {
+            Node<T> predecessor = update[level];
+            if (predecessor.next[level] == removedNode) {
+                predecessor.width[level] += removedNode.width[level] - 1;
+                predecessor.next[level] = removedNode.next[level];
+            } else {
+                predecessor.width[level]--;
+            }
+        }
+        for (int level = levels; level < MAX_LEVEL; level++) {
+            headNode.width[level]--;
+        }
+        while (levels > 1 && Objects.isNull(headNode.next[levels - 1])) {
+            levels--;
+        }
+
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (Node<T> node = headNode.next[0]; node != null; node = node.next[0]) {
+            if (Objects.equals(element, node.value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(headNode.next, null);
+        Arrays.fill(headNode.width, 1);
+        levels = 1;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements, that walks the bottom level of the skip list
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new SkipListIterator();
+    }
+
+    /**
+     * Returns a fail-fast {@link Spliterator} that splits the list in half by index. Every element is found by
+     * descending the skip list, so a traversal takes O(n log n) expected time, but no split has to walk the list.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new IndexedSpliterator<>(this, () -> modCount);
+    }
+
+    /**
+     * Returns a view of the list elements which index is between {@code fromIndex}, inclusive, and {@code toIndex},
+     * exclusive. The view is fail-fast, it is invalidated by any structural modification of the list that is not done
+     * through the view. In case provided indexes are out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first element of the view
+     * @param toIndex   an index after the last element of the view
+     * @return a view of the specified range
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        return new SubList<>(this, fromIndex, toIndex, () -> modCount);
+    }
+
+    private Node<T> findNodeByIndex(int index) {
+        int target = index + 1;
+        Node<T> node = headNode;
+        int position = 0;
+        for (int level = levels - 1; level >= 0; level--) {
+            while (node.next[level] != null && position + node.width[level] <= target) {
+                position += node.width[level];
+                node = node.next[level];
+            }
+        }
+
+        return node;
+    }
+
+    /**
+     * Collects the last node before the given position on every level, together with positions of those nodes
+     */
+    private void findPredecessors(int target, Node<T>[] update, int[] updatePosition) {
+        Node<T> node = headNode;
+        int position = 0;
+        for (int level = levels - 1; level >= 0; level--) {
+            while (node.next[level] != null && position + node.width[level] < target) {
+                position += node.width[level];
+                node = node.next[level];
+            }
+            update[level] = node;
+            updatePosition[level] = position;
+        }
+    }
+
+    private int randomLevel() {
+        int level = 1;
+        while (level < MAX_LEVEL && random.nextBoolean()) {
+            level++;
+        }
+
+        return level;
+    }
+
+    private class SkipListIterator implements Iterator<T> {
+
+        private Node<T> nextNode = headNode.next[0];
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (Objects.isNull(nextNode)) {
+                throw new NoSuchElementException();
+            }
+
+            T value = nextNode.value;
+            nextNode = nextNode.next[0];
+            return value;
+        }
+
+    }
+
+    private static class Node<T> {
+
+        private T value;
+        private final Node<T>[] next;
+        private final int[] width;
+
+        private Node(T value, int level) {
+            this.value = value;
+            this.next = newArray(level);
+            this.width = new int[level];
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static <T> Node<T>[] newArray(int length) {
+            return new Node[length];
+        }
+
+    }
+
+}
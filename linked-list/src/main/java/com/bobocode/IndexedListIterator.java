@@ -0,0 +1,95 @@
+package com.bobocode;
+
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link IndexedListIterator} is a generic {@link ListIterator} that is built on top of positional methods of
+ * {@link List}. Every step costs as much as {@link List#get(int)} of the underlying list, so implementations with
+ * cheaper in-place navigation are expected to provide their own iterator.
+ *
+ * @param <T> generic type parameter
+ */
+class IndexedListIterator<T> implements ListIterator<T> {
+
+    private final List<T> list;
+    private int cursor;
+    private int lastReturnedIndex = -1;
+
+    IndexedListIterator(List<T> list, int index) {
+        if (index < 0 || index > list.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        this.list = list;
+        this.cursor = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < list.size();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        lastReturnedIndex = cursor++;
+        return list.get(lastReturnedIndex);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return cursor > 0;
+    }
+
+    @Override
+    public T previous() {
+        if (!hasPrevious()) {
+            throw new NoSuchElementException();
+        }
+
+        lastReturnedIndex = --cursor;
+        return list.get(lastReturnedIndex);
+    }
+
+    @Override
+    public int nextIndex() {
+        return cursor;
+    }
+
+    @Override
+    public int previousIndex() {
+        return cursor - 1;
+    }
+
+    @Override
+    public void remove() {
+        if (lastReturnedIndex < 0) {
+            throw new IllegalStateException();
+        }
+
+        list.remove(lastReturnedIndex);
+        if (lastReturnedIndex < cursor) {
+            cursor--;
+        }
+        lastReturnedIndex = -1;
+    }
+
+    @Override
+    public void set(T element) {
+        if (lastReturnedIndex < 0) {
+            throw new IllegalStateException();
+        }
+
+        list.set(lastReturnedIndex, element);
+    }
+
+    @Override
+    public void add(T element) {
+        list.add(cursor++, element);
+        lastReturnedIndex = -1;
+    }
+
+}
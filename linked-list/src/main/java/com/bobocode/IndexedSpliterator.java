@@ -0,0 +1,98 @@
+package com.bobocode;
+
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * {@link IndexedSpliterator} is a generic {@link Spliterator} that is built on top of {@link List#get(int)}. It covers
+ * a range of indexes and splits it in half by index, so parallel streams always get balanced halves no matter how the
+ * list stores its elements. Every element costs as much as {@link List#get(int)} of the underlying list, so lists with
+ * cheaper in-place navigation are expected to provide their own spliterator.
+ * <p>
+ * A list that keeps a modification counter can pass it in, then the spliterator is fail-fast. Otherwise a structural
+ * modification is noticed only if it makes an index go out of the list bounds.
+ *
+ * @param <T> generic type parameter
+ */
+class IndexedSpliterator<T> implements Spliterator<T> {
+
+    private final List<T> list;
+    private final IntSupplier modCount;
+    private final int expectedModCount;
+    private int index;
+    private final int fence;
+
+    IndexedSpliterator(List<T> list) {
+        this(list, () -> 0);
+    }
+
+    IndexedSpliterator(List<T> list, IntSupplier modCount) {
+        this(list, modCount, modCount.getAsInt(), 0, list.size());
+    }
+
+    private IndexedSpliterator(List<T> list, IntSupplier modCount, int expectedModCount, int index, int fence) {
+        this.list = list;
+        this.modCount = modCount;
+        this.expectedModCount = expectedModCount;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        checkForComodification();
+        if (index >= fence) {
+            return false;
+        }
+
+        action.accept(list.get(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        for (; index < fence; index++) {
+            checkForComodification();
+            action.accept(list.get(index));
+        }
+        checkForComodification();
+    }
+
+    /**
+     * Hands the first half of the remaining indexes over to a new spliterator
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        checkForComodification();
+        int middle = (index + fence) >>> 1;
+        if (middle == index) {
+            return null;
+        }
+
+        Spliterator<T> prefix = new IndexedSpliterator<>(list, modCount, expectedModCount, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+
+    private void checkForComodification() {
+        if (modCount.getAsInt() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+}
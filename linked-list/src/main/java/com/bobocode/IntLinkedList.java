@@ -0,0 +1,216 @@
+package com.bobocode;
+
+import java.util.Objects;
+
+/**
+ * {@link IntLinkedList} is an implementation of {@link IntList} that is based on doubly linked nodes. Unlike
+ * {@link LinkedList}, a node keeps a primitive {@code int} field, so no wrapper object is allocated per element.
+ */
+public class IntLinkedList implements IntList {
+
+    private Node headNode;
+    private Node tailNode;
+    private int size;
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @return a new list of elements the were passed as method parameters
+     */
+    public static IntList of(int... elements) {
+        IntLinkedList linkedList = new IntLinkedList();
+        for (int element : elements) {
+            linkedList.addInt(element);
+        }
+
+        return linkedList;
+    }
+
+    /**
+     * Adds an element to the end of the list
+     *
+     * @param element element to add
+     */
+    @Override
+    public void addInt(int element) {
+        Node newNode = new Node(element);
+
+        if (Objects.isNull(headNode)) {
+            headNode = tailNode = newNode;
+        } else {
+            newNode.prev = tailNode;
+            tailNode.next = newNode;
+            tailNode = newNode;
+        }
+
+        size++;
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void addInt(int index, int element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        if (index == size) {
+            addInt(element);
+            return;
+        }
+
+        Node newNode = new Node(element);
+        Node nextNode = findNodeByIndex(index);
+        newNode.prev = nextNode.prev;
+        newNode.next = nextNode;
+        if (Objects.isNull(nextNode.prev)) {
+            headNode = newNode;
+        } else {
+            nextNode.prev.next = newNode;
+        }
+        nextNode.prev = newNode;
+
+        size++;
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void setInt(int index, int element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        findNodeByIndex(index).value = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public int getInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        return findNodeByIndex(index).value;
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     */
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        Node node = findNodeByIndex(index);
+        if (Objects.isNull(node.prev)) {
+            headNode = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (Objects.isNull(node.next)) {
+            tailNode = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = node.next = null;
+
+        size--;
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean containsInt(int element) {
+        for (Node currentNode = headNode; currentNode != null; currentNode = currentNode.next) {
+            if (currentNode.value == element) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        headNode = tailNode = null;
+        size = 0;
+    }
+
+    private Node findNodeByIndex(int index) {
+        Node currentNode;
+        if (index < (size >> 1)) {
+            currentNode = headNode;
+            for (int i = 0; i < index; i++) {
+                currentNode = currentNode.next;
+            }
+        } else {
+            currentNode = tailNode;
+            for (int i = size - 1; i > index; i--) {
+                currentNode = currentNode.prev;
+            }
+        }
+
+        return currentNode;
+    }
+
+    private static class Node {
+
+        private int value;
+        private Node prev;
+        private Node next;
+
+        private Node(int value) {
+            this.value = value;
+        }
+
+    }
+
+}
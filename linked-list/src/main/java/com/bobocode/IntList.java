@@ -0,0 +1,26 @@
+package com.bobocode;
+
+/**
+ * {@link IntList} is a specialization of {@link List} for primitive {@code int} values. Elements are stored unboxed,
+ * so neither a wrapper object per element nor a virtual {@code equals()} call per comparison is needed.
+ */
+public interface IntList {
+    void addInt(int element);
+
+    void addInt(int index, int element);
+
+    void setInt(int index, int element);
+
+    int getInt(int index);
+
+    void remove(int index);
+
+    boolean containsInt(int element);
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+
+}
@@ -1,11 +1,28 @@
 package com.bobocode;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
- * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
- * inner static class {@link Node<T>}. In order to keep track on nodes, {@link LinkedList} keeps a reference to a head node.
+ * {@link LinkedList} is a list implementation that is based on doubly linked generic nodes. A node is implemented as
+ * inner static class {@link Node<T>}. In order to keep track on nodes, {@link LinkedList} keeps references to a head
+ * and a tail node, so positional operations walk from whichever end is closer to the requested index.
+ * <p>
+ * The list also remembers the last node that was found by index (a "finger"). When the next requested index is
+ * closer to the finger than to both ends, the walk starts from the finger, so sequential and near-sequential
+ * {@link #get(int)}, {@link #set(int, Object)} and {@link #add(int, Object)} calls take amortized constant time.
+ * <p>
+ * Optionally, removed nodes can be kept in a bounded per-instance pool and reused by following additions, which
+ * reduces the allocation rate of lists with heavy add/remove churn.
  *
  * @param <T> generic type parameter
  */
@@ -14,6 +31,28 @@ public class LinkedList<T> implements List<T> {
     private Node<T> headNode;
     private Node<T> tailNode;
     private int size;
+    private int modCount;
+    private Node<T> fingerNode;
+    private int fingerIndex;
+    private final int nodePoolCapacity;
+    private Node<T> pooledNode;
+    private int pooledNodeCount;
+
+    public LinkedList() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty list that keeps up to the given number of removed nodes and reuses them for new elements
+     *
+     * @param nodePoolCapacity maximum number of pooled nodes, {@code 0} disables pooling
+     */
+    public LinkedList(int nodePoolCapacity) {
+        if (nodePoolCapacity < 0) {
+            throw new IllegalArgumentException("Node pool capacity should not be negative: " + nodePoolCapacity);
+        }
+        this.nodePoolCapacity = nodePoolCapacity;
+    }
 
     /**
      * This method creates a list of provided elements
@@ -25,7 +64,7 @@ public class LinkedList<T> implements List<T> {
     @SafeVarargs
     public static <T> List<T> of(T... elements) {
         LinkedList<T> linkedList = new LinkedList<>();
-        Arrays.stream(elements).forEach(linkedList::add);
+        linkedList.addAll(Arrays.asList(elements));
 
         return linkedList;
     }
@@ -37,17 +76,18 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void add(T element) {
-        Node<T> newNode = new Node<>();
-        newNode.value = element;
+        Node<T> newNode = newNode(element);
 
         if (Objects.isNull(headNode)) {
             headNode = tailNode = newNode;
         } else {
+            newNode.prev = tailNode;
             tailNode.next = newNode;
             tailNode = tailNode.next;
         }
 
         size++;
+        modCount++;
     }
 
     /**
@@ -68,21 +108,9 @@ public class LinkedList<T> implements List<T> {
             return;
         }
 
-        Node<T> newNode = new Node<>();
-        newNode.value = element;
-        if (index == 0) {
-            newNode.next = headNode;
-            headNode = newNode;
-        } else {
-            Node<T> currentNode = headNode;
-            for (int i = 1; i < index; i++) {
-                currentNode = currentNode.next;
-            }
-            newNode.next = currentNode.next;
-            currentNode.next = newNode;
-        }
-
-        size++;
+        Node<T> nextNode = index == 0 ? headNode : findNodeByIndex(index);
+        Node<T> newNode = linkBefore(element, nextNode);
+        moveFinger(newNode, index);
     }
 
     /**
@@ -98,11 +126,7 @@ public class LinkedList<T> implements List<T> {
             throw new IndexOutOfBoundsException("Index: " + index);
         }
 
-        Node<T> currentNode = headNode;
-        for (int i = 1; i <= index; i++) {
-            currentNode = currentNode.next;
-        }
-        currentNode.value = element;
+        findNodeByIndex(index).value = element;
     }
 
     /**
@@ -118,12 +142,7 @@ public class LinkedList<T> implements List<T> {
             throw new IndexOutOfBoundsException("Index: " + index);
         }
 
-        Node<T> currentNode = headNode;
-        for (int i = 1; i <= index; i++) {
-            currentNode = currentNode.next;
-        }
-
-        return currentNode.value;
+        return findNodeByIndex(index).value;
     }
 
     /**
@@ -138,19 +157,10 @@ public class LinkedList<T> implements List<T> {
             throw new IndexOutOfBoundsException("Index: " + index);
         }
 
-        if (index == 0) {
-            headNode = headNode.next;
-        } else {
-            Node<T> currentNode = headNode;
-            for (int i = 1; i < index ; i++) {
-                currentNode = currentNode.next;
-            }
-            Node<T> removedNode = currentNode.next;
-            currentNode.next = removedNode.next;
-            removedNode.next = null;
-        }
-
-        size--;
+        Node<T> removedNode = findNodeByIndex(index);
+        Node<T> nextNode = removedNode.next;
+        unlink(removedNode);
+        moveFinger(nextNode, index);
     }
 
 
@@ -201,13 +211,718 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void clear() {
+        for (Node<T> node = headNode; node != null && pooledNodeCount < nodePoolCapacity; ) {
+            Node<T> nextNode = node.next;
+            recycleNode(node);
+            node = nextNode;
+        }
         headNode = tailNode = null;
         size = 0;
+        modCount++;
+        moveFinger(null, 0);
+    }
+
+    /**
+     * Adds all elements of the given collection to the end of the list. New nodes are linked to each other first, and
+     * then the whole chain is attached to the tail at once.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        linkAllBefore(null, elements);
+    }
+
+    /**
+     * Inserts all elements of the given collection into the specific position in the list, walking to that position
+     * only once. In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first new element
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        Node<T> nextNode = index == size ? null : findNodeByIndex(index);
+        Node<T> firstNode = linkAllBefore(nextNode, elements);
+        if (Objects.nonNull(firstNode)) {
+            moveFinger(firstNode, index);
+        }
+    }
+
+    /**
+     * Removes all elements that satisfy the given predicate during a single traversal of the list
+     *
+     * @param filter a predicate which returns {@code true} for elements to be removed
+     * @return {@code true} if any element was removed, {@code false} otherwise
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int initialSize = size;
+        moveFinger(null, 0);
+        Node<T> currentNode = headNode;
+        while (Objects.nonNull(currentNode)) {
+            Node<T> nextNode = currentNode.next;
+            if (filter.test(currentNode.value)) {
+                unlink(currentNode);
+            }
+            currentNode = nextNode;
+        }
+
+        return size != initialSize;
+    }
+
+    /**
+     * Removes all elements which index is between {@code fromIndex}, inclusive, and {@code toIndex}, exclusive, by
+     * cutting the whole range out of the chain at once. In case provided indexes are out of the list bounds it throws
+     * {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first element to remove
+     * @param toIndex   an index after the last element to remove
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From index: " + fromIndex + ", to index: " + toIndex);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        Node<T> firstNode = findNodeByIndex(fromIndex);
+        Node<T> lastNode = firstNode;
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            lastNode = lastNode.next;
+        }
+        Node<T> prevNode = firstNode.prev;
+        Node<T> nextNode = lastNode.next;
+
+        if (Objects.isNull(prevNode)) {
+            headNode = nextNode;
+        } else {
+            prevNode.next = nextNode;
+        }
+        if (Objects.isNull(nextNode)) {
+            tailNode = prevNode;
+        } else {
+            nextNode.prev = prevNode;
+        }
+        firstNode.prev = lastNode.next = null;
+        for (Node<T> node = firstNode; node != null && pooledNodeCount < nodePoolCapacity; ) {
+            Node<T> removedNode = node;
+            node = node.next;
+            recycleNode(removedNode);
+        }
+
+        size -= toIndex - fromIndex;
+        modCount++;
+        moveFinger(nextNode, fromIndex);
+    }
+
+    /**
+     * Sorts the list according to the order induced by the given comparator. It is a bottom-up merge sort that
+     * relinks existing nodes instead of copying elements, so it takes O(n log n) time and doesn't allocate any memory
+     * per element. The sort is stable, so equal elements keep their relative order. In case the comparator throws an
+     * exception, the list keeps all its elements, but their order is unspecified.
+     *
+     * @param comparator a comparator used to compare list elements
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        if (size < 2) {
+            return;
+        }
+
+        Node<T> sortedHead = headNode;
+        Node<T> sortedTail = null;
+        Node<T> leftRun = null;
+        Node<T> rightRun = null;
+        int leftLength = 0;
+        boolean completed = false;
+        try {
+            int runLength = 1;
+            int merges;
+            do {
+                leftRun = sortedHead;
+                sortedHead = sortedTail = null;
+                merges = 0;
+
+                while (Objects.nonNull(leftRun)) {
+                    merges++;
+                    rightRun = leftRun;
+                    leftLength = 0;
+                    while (leftLength < runLength && Objects.nonNull(rightRun)) {
+                        leftLength++;
+                        rightRun = rightRun.next;
+                    }
+                    int rightLength = runLength;
+
+                    while (leftLength > 0 || (rightLength > 0 && Objects.nonNull(rightRun))) {
+                        Node<T> nextNode;
+                        if (leftLength > 0 && (rightLength == 0 || Objects.isNull(rightRun)
+                                || comparator.compare(leftRun.value, rightRun.value) <= 0)) {
+                            nextNode = leftRun;
+                            leftRun = leftRun.next;
+                            leftLength--;
+                        } else {
+                            nextNode = rightRun;
+                            rightRun = rightRun.next;
+                            rightLength--;
+                        }
+
+                        if (Objects.isNull(sortedTail)) {
+                            sortedHead = nextNode;
+                        } else {
+                            sortedTail.next = nextNode;
+                        }
+                        nextNode.prev = sortedTail;
+                        sortedTail = nextNode;
+                    }
+                    leftRun = rightRun;
+                }
+
+                sortedTail.next = null;
+                runLength <<= 1;
+            } while (merges > 1);
+            completed = true;
+        } finally {
+            if (completed) {
+                headNode = sortedHead;
+                tailNode = sortedTail;
+            } else {
+                restoreChain(sortedHead, sortedTail, leftRun, leftLength, rightRun);
+            }
+            modCount++;
+            moveFinger(null, 0);
+        }
+    }
+
+    /**
+     * Moves all elements of another list to the end of this list in constant time. Nodes of the other list are
+     * relinked, not copied, so the other list becomes empty.
+     *
+     * @param other a list which elements are moved
+     */
+    public void appendAll(LinkedList<T> other) {
+        Objects.requireNonNull(other);
+        if (other == this) {
+            throw new IllegalArgumentException("A list cannot be appended to itself");
+        }
+        if (other.isEmpty()) {
+            return;
+        }
+
+        if (Objects.isNull(tailNode)) {
+            headNode = other.headNode;
+        } else {
+            tailNode.next = other.headNode;
+            other.headNode.prev = tailNode;
+        }
+        tailNode = other.tailNode;
+        size += other.size;
+        modCount++;
+
+        other.headNode = other.tailNode = null;
+        other.size = 0;
+        other.modCount++;
+        other.moveFinger(null, 0);
+    }
+
+    /**
+     * Splits the list at the specific position. Elements starting from the index are moved to a new list by
+     * relinking their nodes, so the split takes only the time needed to find the node at the index. In case provided
+     * index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index an index of the first element to move
+     * @return a new list that holds elements which were at positions from the index to the end of this list
+     */
+    public LinkedList<T> split(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        LinkedList<T> tailList = new LinkedList<>(nodePoolCapacity);
+        if (index == size) {
+            return tailList;
+        }
+
+        Node<T> firstNode = findNodeByIndex(index);
+        Node<T> lastNode = firstNode.prev;
+        tailList.headNode = firstNode;
+        tailList.tailNode = tailNode;
+        tailList.size = size - index;
+
+        firstNode.prev = null;
+        if (Objects.isNull(lastNode)) {
+            headNode = null;
+        } else {
+            lastNode.next = null;
+        }
+        tailNode = lastNode;
+        size = index;
+        modCount++;
+        moveFinger(null, 0);
+
+        return tailList;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements. Any structural modification of the list that is done
+     * after the iterator was created, except the ones done through the iterator itself, makes it throw
+     * {@link ConcurrentModificationException}.
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LinkedListIterator(headNode, 0);
+    }
+
+    /**
+     * Returns a fail-fast {@link ListIterator} that starts at the specific position. Its methods
+     * {@link ListIterator#remove()}, {@link ListIterator#set(Object)} and {@link ListIterator#add(Object)} work on the
+     * current node in constant time, so editing the list during a single pass takes a linear time. In case provided
+     * index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index an index of the first element to be returned by {@link ListIterator#next()}
+     * @return a list iterator
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        return new LinkedListIterator(index == size ? null : findNodeByIndex(index), index);
+    }
+
+    /**
+     * Returns a fail-fast {@link Spliterator} that splits the list into balanced halves. It reports
+     * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED} characteristics.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new LinkedListSpliterator(headNode, size, modCount);
+    }
+
+    /**
+     * Returns a view of the list elements which index is between {@code fromIndex}, inclusive, and {@code toIndex},
+     * exclusive. The view is fail-fast, it is invalidated by any structural modification of the list that is not done
+     * through the view. In case provided indexes are out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first element of the view
+     * @param toIndex   an index after the last element of the view
+     * @return a view of the specified range
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        return new SubList<>(this, fromIndex, toIndex, () -> modCount);
+    }
+
+    /**
+     * Finds a node by its position walking from the head, from the tail or from the finger, depending on which one is
+     * closer to the index. The found node becomes a new finger. The index is expected to be already checked against
+     * the list bounds.
+     *
+     * @param index node index
+     * @return a node at the given position
+     */
+    private Node<T> findNodeByIndex(int index) {
+        Node<T> currentNode;
+        int currentIndex;
+        int tailDistance = size - 1 - index;
+        if (Objects.nonNull(fingerNode) && Math.abs(index - fingerIndex) < Math.min(index, tailDistance)) {
+            currentNode = fingerNode;
+            currentIndex = fingerIndex;
+        } else if (index <= tailDistance) {
+            currentNode = headNode;
+            currentIndex = 0;
+        } else {
+            currentNode = tailNode;
+            currentIndex = size - 1;
+        }
+
+        for (; currentIndex < index; currentIndex++) {
+            currentNode = currentNode.next;
+        }
+        for (; currentIndex > index; currentIndex--) {
+            currentNode = currentNode.prev;
+        }
+        moveFinger(currentNode, index);
+
+        return currentNode;
+    }
+
+    /**
+     * Points the finger to the given node. Every structural modification has to either move the finger to a node
+     * which index is known, or reset it by passing {@code null}.
+     */
+    private void moveFinger(Node<T> node, int index) {
+        fingerNode = node;
+        fingerIndex = index;
+    }
+
+    /**
+     * Builds a chain of new nodes for the given elements and splices it right before the given node, or after the tail
+     * if the node is {@code null}.
+     *
+     * @return the first node of the new chain or {@code null} if there were no elements
+     */
+    private Node<T> linkAllBefore(Node<T> nextNode, Collection<? extends T> elements) {
+        Node<T> firstNode = null;
+        Node<T> lastNode = null;
+        int count = 0;
+        for (T element : elements) {
+            Node<T> newNode = newNode(element);
+            if (Objects.isNull(firstNode)) {
+                firstNode = newNode;
+            } else {
+                lastNode.next = newNode;
+                newNode.prev = lastNode;
+            }
+            lastNode = newNode;
+            count++;
+        }
+        if (count == 0) {
+            return null;
+        }
+
+        Node<T> prevNode = Objects.isNull(nextNode) ? tailNode : nextNode.prev;
+        firstNode.prev = prevNode;
+        lastNode.next = nextNode;
+        if (Objects.isNull(prevNode)) {
+            headNode = firstNode;
+        } else {
+            prevNode.next = firstNode;
+        }
+        if (Objects.isNull(nextNode)) {
+            tailNode = lastNode;
+        } else {
+            nextNode.prev = lastNode;
+        }
+
+        size += count;
+        modCount++;
+        return firstNode;
+    }
+
+    /**
+     * Links a new node right before the given one, or after the tail if the given node is {@code null}. It doesn't
+     * touch the finger, so the caller is responsible for moving it.
+     *
+     * @return the new node
+     */
+    private Node<T> linkBefore(T element, Node<T> nextNode) {
+        Node<T> newNode = newNode(element);
+        Node<T> prevNode = Objects.isNull(nextNode) ? tailNode : nextNode.prev;
+        newNode.prev = prevNode;
+        newNode.next = nextNode;
+
+        if (Objects.isNull(prevNode)) {
+            headNode = newNode;
+        } else {
+            prevNode.next = newNode;
+        }
+        if (Objects.isNull(nextNode)) {
+            tailNode = newNode;
+        } else {
+            nextNode.prev = newNode;
+        }
+
+        size++;
+        modCount++;
+        return newNode;
+    }
+
+    private void unlink(Node<T> node) {
+        Node<T> prevNode = node.prev;
+        Node<T> nextNode = node.next;
+
+        if (Objects.isNull(prevNode)) {
+            headNode = nextNode;
+        } else {
+            prevNode.next = nextNode;
+        }
+
+        if (Objects.isNull(nextNode)) {
+            tailNode = prevNode;
+        } else {
+            nextNode.prev = prevNode;
+        }
+
+        node.prev = node.next = null;
+        size--;
+        modCount++;
+        if (pooledNodeCount < nodePoolCapacity) {
+            recycleNode(node);
+        }
+    }
+
+    /**
+     * Puts the list back together after a comparator threw in the middle of a merge pass of {@link #sort(Comparator)}.
+     * The merged part of the pass is followed by the rest of the left run, which ends after {@code leftLength} nodes,
+     * and then by all nodes starting from the right run, which the pass hasn't reached yet and which are still linked
+     * to each other up to the end.
+     */
+    private void restoreChain(Node<T> mergedHead, Node<T> mergedTail, Node<T> leftRun, int leftLength,
+                              Node<T> rightRun) {
+        headNode = mergedHead;
+        tailNode = mergedTail;
+        Node<T> node = leftRun;
+        for (int i = 0; i < leftLength; i++) {
+            Node<T> nextNode = node.next;
+            linkLast(node);
+            node = nextNode;
+        }
+        for (node = rightRun; Objects.nonNull(node); ) {
+            Node<T> nextNode = node.next;
+            linkLast(node);
+            node = nextNode;
+        }
+        tailNode.next = null;
+    }
+
+    /**
+     * Links an existing node after the tail, keeping its own {@code next} reference untouched
+     */
+    private void linkLast(Node<T> node) {
+        node.prev = tailNode;
+        if (Objects.isNull(tailNode)) {
+            headNode = node;
+        } else {
+            tailNode.next = node;
+        }
+        tailNode = node;
+    }
+
+    /**
+     * Takes a node from the pool, or allocates a new one if the pool is empty
+     */
+    private Node<T> newNode(T element) {
+        Node<T> node = pooledNode;
+        if (Objects.isNull(node)) {
+            node = new Node<>();
+        } else {
+            pooledNode = node.next;
+            node.next = null;
+            pooledNodeCount--;
+        }
+        node.value = element;
+
+        return node;
+    }
+
+    /**
+     * Puts a node that is not linked to the list anymore into the pool. The caller is responsible for checking the
+     * pool capacity.
+     */
+    private void recycleNode(Node<T> node) {
+        node.value = null;
+        node.prev = null;
+        node.next = pooledNode;
+        pooledNode = node;
+        pooledNodeCount++;
+    }
+
+    private class LinkedListIterator implements ListIterator<T> {
+
+        private Node<T> nextNode;
+        private int nextIndex;
+        private Node<T> lastReturnedNode;
+        private int expectedModCount = modCount;
+
+        private LinkedListIterator(Node<T> nextNode, int nextIndex) {
+            this.nextNode = nextNode;
+            this.nextIndex = nextIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturnedNode = nextNode;
+            nextNode = nextNode.next;
+            nextIndex++;
+            return lastReturnedNode.value;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            nextNode = Objects.isNull(nextNode) ? tailNode : nextNode.prev;
+            lastReturnedNode = nextNode;
+            nextIndex--;
+            return lastReturnedNode.value;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (Objects.isNull(lastReturnedNode)) {
+                throw new IllegalStateException();
+            }
+
+            Node<T> lastReturnedNext = lastReturnedNode.next;
+            unlink(lastReturnedNode);
+            if (nextNode == lastReturnedNode) {
+                nextNode = lastReturnedNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturnedNode = null;
+            expectedModCount = modCount;
+            moveFinger(null, 0);
+        }
+
+        @Override
+        public void set(T element) {
+            checkForComodification();
+            if (Objects.isNull(lastReturnedNode)) {
+                throw new IllegalStateException();
+            }
+
+            lastReturnedNode.value = element;
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            linkBefore(element, nextNode);
+            nextIndex++;
+            lastReturnedNode = null;
+            expectedModCount = modCount;
+            moveFinger(null, 0);
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+    }
+
+    private class LinkedListSpliterator implements Spliterator<T> {
+
+        private Node<T> currentNode;
+        private int remaining;
+        private final int expectedModCount;
+
+        private LinkedListSpliterator(Node<T> currentNode, int remaining, int expectedModCount) {
+            this.currentNode = currentNode;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            checkForComodification();
+            if (remaining == 0) {
+                return false;
+            }
+
+            T value = currentNode.value;
+            currentNode = currentNode.next;
+            remaining--;
+            action.accept(value);
+            return true;
+        }
+
+        /**
+         * Checks for modifications before every step, since a node that was removed by the action may already be
+         * recycled into the pool, and its {@code next} reference leads into the pool instead of the list.
+         */
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            while (remaining > 0) {
+                checkForComodification();
+                T value = currentNode.value;
+                currentNode = currentNode.next;
+                remaining--;
+                action.accept(value);
+            }
+            checkForComodification();
+        }
+
+        /**
+         * Walks to the middle of the remaining nodes and hands the first half over to a new spliterator, so parallel
+         * streams always get balanced halves.
+         */
+        @Override
+        public Spliterator<T> trySplit() {
+            checkForComodification();
+            if (remaining < 2) {
+                return null;
+            }
+
+            int half = remaining >>> 1;
+            Spliterator<T> prefix = new LinkedListSpliterator(currentNode, half, expectedModCount);
+            for (int i = 0; i < half; i++) {
+                currentNode = currentNode.next;
+            }
+            remaining -= half;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
     }
 
     private static class Node<T> {
 
         private T value;
+        private Node<T> prev;
         private Node<T> next;
 
     }
@@ -1,7 +1,17 @@
 package com.bobocode;
 
 
-public interface List<T> {
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
@@ -20,4 +30,164 @@ public interface List<T> {
 
     void clear();
 
+    /**
+     * Adds all elements of the given collection to the end of the list, in the order they are returned by the
+     * collection iterator
+     *
+     * @param elements elements to add
+     */
+    default void addAll(Collection<? extends T> elements) {
+        elements.forEach(this::add);
+    }
+
+    /**
+     * Inserts all elements of the given collection into the specific position in the list. In case provided index in
+     * out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    an index of the first new element
+     * @param elements elements to add
+     */
+    default void addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        for (T element : elements) {
+            add(index++, element);
+        }
+    }
+
+    /**
+     * Removes all elements that satisfy the given predicate. The default implementation copies remaining elements
+     * aside and adds them back, so it takes a linear time whenever {@link #add(Object)} takes a constant one.
+     *
+     * @param filter a predicate which returns {@code true} for elements to be removed
+     * @return {@code true} if any element was removed, {@code false} otherwise
+     */
+    default boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        java.util.List<T> remainingElements = new ArrayList<>();
+        for (T element : this) {
+            if (!filter.test(element)) {
+                remainingElements.add(element);
+            }
+        }
+        if (remainingElements.size() == size()) {
+            return false;
+        }
+
+        clear();
+        addAll(remainingElements);
+        return true;
+    }
+
+    /**
+     * Retains only elements that are contained in the given collection
+     *
+     * @param elements elements to retain
+     * @return {@code true} if any element was removed, {@code false} otherwise
+     */
+    default boolean retainAll(Collection<?> elements) {
+        Objects.requireNonNull(elements);
+        return removeIf(element -> !elements.contains(element));
+    }
+
+    /**
+     * Removes all elements which index is between {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. In
+     * case provided indexes are out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first element to remove
+     * @param toIndex   an index after the last element to remove
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From index: " + fromIndex + ", to index: " + toIndex);
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
+
+    /**
+     * Sorts the list according to the order induced by the given comparator. The sort is stable, so equal elements
+     * keep their relative order. The default implementation copies elements aside, sorts them and adds them back.
+     *
+     * @param comparator a comparator used to compare list elements
+     */
+    default void sort(Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        java.util.List<T> sortedElements = new ArrayList<>(size());
+        forEach(sortedElements::add);
+        sortedElements.sort(comparator);
+
+        clear();
+        addAll(sortedElements);
+    }
+
+    /**
+     * Returns a {@link ListIterator} over the list elements, that starts at the beginning of the list
+     *
+     * @return a list iterator
+     */
+    default ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a {@link ListIterator} over the list elements, that starts at the specific position. The default
+     * implementation navigates the list with {@link #get(int)} and modifies it with positional methods. In case
+     * provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index an index of the first element to be returned by {@link ListIterator#next()}
+     * @return a list iterator
+     */
+    default ListIterator<T> listIterator(int index) {
+        return new IndexedListIterator<>(this, index);
+    }
+
+    /**
+     * Returns a view of the list elements which index is between {@code fromIndex}, inclusive, and {@code toIndex},
+     * exclusive. The view doesn't copy elements, and changes made through it are visible in this list. In case
+     * provided indexes are out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first element of the view
+     * @param toIndex   an index after the last element of the view
+     * @return a view of the specified range
+     */
+    default List<T> subList(int fromIndex, int toIndex) {
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
+    /**
+     * Creates a {@link Spliterator} over the list elements that reports {@link Spliterator#SIZED},
+     * {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED} characteristics. The default implementation splits
+     * the list in half by index and reads elements with {@link #get(int)}, so implementations with cheaper in-place
+     * navigation are encouraged to override it.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return new IndexedSpliterator<>(this);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} of the list elements
+     *
+     * @return a sequential stream
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link Stream} of the list elements
+     *
+     * @return a parallel stream
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
 }
@@ -0,0 +1,26 @@
+package com.bobocode;
+
+/**
+ * {@link LongList} is a specialization of {@link List} for primitive {@code long} values. Elements are stored unboxed,
+ * so neither a wrapper object per element nor a virtual {@code equals()} call per comparison is needed.
+ */
+public interface LongList {
+    void addLong(long element);
+
+    void addLong(int index, long element);
+
+    void setLong(int index, long element);
+
+    long getLong(int index);
+
+    void remove(int index);
+
+    boolean containsLong(long element);
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+
+}
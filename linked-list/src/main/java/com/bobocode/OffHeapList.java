@@ -0,0 +1,316 @@
+package com.bobocode;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntFunction;
+
+/**
+ * {@link OffHeapList} is a list implementation that keeps elements as fixed-width binary records outside of the Java
+ * heap. Records are converted by a user-supplied {@link RecordCodec} and stored in segments, i.e. buffers of the same
+ * size, allocated by a pluggable segment allocator. By default segments are direct {@link ByteBuffer}s, but any
+ * buffer can be used, e.g. a memory-mapped one.
+ * <p>
+ * Since the heap holds only references to segments, a list of any size adds almost nothing to the garbage collector
+ * work. Positional access takes constant time, while {@link #add(int, Object)} and {@link #remove(int)} shift all
+ * following records with one bulk copy per segment, through views of segments that are created once per segment.
+ *
+ * @param <T> generic type parameter
+ */
+public class OffHeapList<T> implements List<T> {
+
+    private static final int DEFAULT_SEGMENT_SIZE = 1 << 20;
+
+    private final RecordCodec<T> codec;
+    private final int recordSize;
+    private final int recordsPerSegment;
+    private final IntFunction<ByteBuffer> segmentAllocator;
+    private final java.util.List<ByteBuffer> segments = new ArrayList<>();
+    private final java.util.List<ByteBuffer> sourceViews = new ArrayList<>();
+    private final java.util.List<ByteBuffer> targetViews = new ArrayList<>();
+    private int size;
+    private int modCount;
+
+    /**
+     * Creates an empty list that stores records in direct buffers of 1 MB
+     *
+     * @param codec a codec that converts elements into records
+     */
+    public OffHeapList(RecordCodec<T> codec) {
+        this(codec, Math.max(1, DEFAULT_SEGMENT_SIZE / codec.recordSize()), ByteBuffer::allocateDirect);
+    }
+
+    /**
+     * Creates an empty list that stores records in segments provided by the given allocator
+     *
+     * @param codec             a codec that converts elements into records
+     * @param recordsPerSegment a number of records stored in a single segment
+     * @param segmentAllocator  a function that returns a new buffer of at least the requested capacity in bytes
+     */
+    public OffHeapList(RecordCodec<T> codec, int recordsPerSegment, IntFunction<ByteBuffer> segmentAllocator) {
+        this.codec = Objects.requireNonNull(codec);
+        this.segmentAllocator = Objects.requireNonNull(segmentAllocator);
+        this.recordSize = codec.recordSize();
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException("Record size should be positive: " + recordSize);
+        }
+        if (recordsPerSegment <= 0 || (long) recordsPerSegment * recordSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid number of records per segment: " + recordsPerSegment);
+        }
+        this.recordsPerSegment = recordsPerSegment;
+    }
+
+    /**
+     * Adds an element to the end of the list
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        ensureCapacity(size + 1);
+        writeRecord(size, element);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds a new element to the specific position in the list, shifting all following records. In case provided
+     * index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        ensureCapacity(size + 1);
+        moveRecords(index, index + 1, size - index);
+        writeRecord(index, element);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        writeRecord(index, element);
+    }
+
+    /**
+     * Retrieves an elements by its position index, decoding it from its record. In case provided index in out of the
+     * list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        return readRecord(index);
+    }
+
+    /**
+     * Removes an elements by its position index, shifting all following records. In case provided index in out of
+     * the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     */
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        moveRecords(index + 1, index, size - index - 1);
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(element, readRecord(i))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements and releases all segments
+     */
+    @Override
+    public void clear() {
+        segments.clear();
+        sourceViews.clear();
+        targetViews.clear();
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator that decodes records one by one
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new OffHeapListIterator();
+    }
+
+    /**
+     * Returns a fail-fast {@link Spliterator} that splits the list in half by index. Records are read in constant
+     * time, so both halves are decoded directly from their segments.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new IndexedSpliterator<>(this, () -> modCount);
+    }
+
+    /**
+     * Returns a view of the list elements which index is between {@code fromIndex}, inclusive, and {@code toIndex},
+     * exclusive. The view is fail-fast, it is invalidated by any structural modification of the list that is not done
+     * through the view. In case provided indexes are out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first element of the view
+     * @param toIndex   an index after the last element of the view
+     * @return a view of the specified range
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        return new SubList<>(this, fromIndex, toIndex, () -> modCount);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        while ((long) segments.size() * recordsPerSegment < minCapacity) {
+            ByteBuffer segment = segmentAllocator.apply(recordsPerSegment * recordSize);
+            if (segment.capacity() < recordsPerSegment * recordSize) {
+                throw new IllegalStateException("Segment allocator returned a buffer of capacity "
+                        + segment.capacity() + ", expected " + recordsPerSegment * recordSize);
+            }
+            segments.add(segment);
+            sourceViews.add(segment.duplicate());
+            targetViews.add(segment.duplicate());
+        }
+    }
+
+    private T readRecord(int index) {
+        return codec.read(segments.get(index / recordsPerSegment), (index % recordsPerSegment) * recordSize);
+    }
+
+    private void writeRecord(int index, T element) {
+        codec.write(segments.get(index / recordsPerSegment), (index % recordsPerSegment) * recordSize, element);
+    }
+
+    /**
+     * Moves a range of records to another position. The range is copied in chunks that don't cross a segment boundary
+     * either at the source or at the target, and every chunk takes a single bulk {@link ByteBuffer#put(ByteBuffer)}.
+     * Chunks are copied starting from the end of the range when it moves forward, and from its beginning otherwise,
+     * so no record is overwritten before it is copied. A chunk may overlap with its target within a segment, which
+     * {@link ByteBuffer#put(ByteBuffer)} copies as if through an intermediate buffer.
+     */
+    private void moveRecords(int fromIndex, int toIndex, int count) {
+        if (toIndex > fromIndex) {
+            while (count > 0) {
+                int sourceEnd = fromIndex + count;
+                int targetEnd = toIndex + count;
+                int chunk = Math.min(count, Math.min((sourceEnd - 1) % recordsPerSegment,
+                        (targetEnd - 1) % recordsPerSegment) + 1);
+                copyChunk(sourceEnd - chunk, targetEnd - chunk, chunk);
+                count -= chunk;
+            }
+        } else {
+            while (count > 0) {
+                int chunk = Math.min(count, recordsPerSegment - Math.max(fromIndex % recordsPerSegment,
+                        toIndex % recordsPerSegment));
+                copyChunk(fromIndex, toIndex, chunk);
+                fromIndex += chunk;
+                toIndex += chunk;
+                count -= chunk;
+            }
+        }
+    }
+
+    private void copyChunk(int fromIndex, int toIndex, int count) {
+        int sourceOffset = (fromIndex % recordsPerSegment) * recordSize;
+        ByteBuffer source = sourceViews.get(fromIndex / recordsPerSegment);
+        source.limit(sourceOffset + count * recordSize).position(sourceOffset);
+
+        ByteBuffer target = targetViews.get(toIndex / recordsPerSegment);
+        target.clear().position((toIndex % recordsPerSegment) * recordSize);
+        target.put(source);
+    }
+
+    private class OffHeapListIterator implements Iterator<T> {
+
+        private int nextIndex;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return readRecord(nextIndex++);
+        }
+
+    }
+
+}
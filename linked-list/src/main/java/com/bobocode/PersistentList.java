@@ -0,0 +1,364 @@
+package com.bobocode;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link PersistentList} is an immutable list implementation that is based on a persistent AVL tree, where every node
+ * also stores a size of its subtree. Instead of changing the list, methods {@link #plus(Object)},
+ * {@link #plus(int, Object)}, {@link #with(int, Object)} and {@link #minus(int)} return a new version of the list.
+ * A new version copies only the O(log n) nodes on the path to the changed position and shares all other nodes with
+ * the previous one.
+ * <p>
+ * Since a version never changes, it can be handed over to other threads as a snapshot without any copying or
+ * synchronization. Methods of {@link List} that modify the list in place throw {@link UnsupportedOperationException}.
+ *
+ * @param <T> generic type parameter
+ */
+public final class PersistentList<T> implements List<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> rootNode;
+
+    private PersistentList(Node<T> rootNode) {
+        this.rootNode = rootNode;
+    }
+
+    /**
+     * Returns an empty list
+     *
+     * @param <T> generic type
+     * @return an empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * This method creates a list of provided elements in linear time
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> PersistentList<T> of(T... elements) {
+        return new PersistentList<>(buildBalanced(elements, 0, elements.length));
+    }
+
+    /**
+     * Returns a new version of the list with the element added to the end
+     *
+     * @param element element to add
+     * @return a new version of the list
+     */
+    public PersistentList<T> plus(T element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a new version of the list with the element inserted into the specific position. In case provided index
+     * in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     * @return a new version of the list
+     */
+    public PersistentList<T> plus(int index, T element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        return new PersistentList<>(insert(rootNode, index, element));
+    }
+
+    /**
+     * Returns a new version of the list with the element at the specific position replaced. In case provided index in
+     * out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     * @return a new version of the list
+     */
+    public PersistentList<T> with(int index, T element) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        return new PersistentList<>(replace(rootNode, index, element));
+    }
+
+    /**
+     * Returns a new version of the list without the element at the specific position. In case provided index in out
+     * of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return a new version of the list
+     */
+    public PersistentList<T> minus(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        return new PersistentList<>(delete(rootNode, index));
+    }
+
+    /**
+     * Not supported, use {@link #plus(Object)} instead
+     */
+    @Override
+    public void add(T element) {
+        throw new UnsupportedOperationException("PersistentList is immutable, use plus() instead");
+    }
+
+    /**
+     * Not supported, use {@link #plus(int, Object)} instead
+     */
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException("PersistentList is immutable, use plus() instead");
+    }
+
+    /**
+     * Not supported, use {@link #with(int, Object)} instead
+     */
+    @Override
+    public void set(int index, T element) {
+        throw new UnsupportedOperationException("PersistentList is immutable, use with() instead");
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        Node<T> node = rootNode;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Not supported, use {@link #minus(int)} instead
+     */
+    @Override
+    public void remove(int index) {
+        throw new UnsupportedOperationException("PersistentList is immutable, use minus() instead");
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (T currentElement : this) {
+            if (Objects.equals(element, currentElement)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return Objects.isNull(rootNode);
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return sizeOf(rootNode);
+    }
+
+    /**
+     * Not supported, use {@link #empty()} instead
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("PersistentList is immutable, use empty() instead");
+    }
+
+    /**
+     * Returns an iterator that walks the tree in order. Since the list never changes, the iterator never throws
+     * {@link java.util.ConcurrentModificationException}.
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(rootNode);
+    }
+
+    private static <T> Node<T> buildBalanced(T[] elements, int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return null;
+        }
+
+        int middle = (fromIndex + toIndex) >>> 1;
+        return new Node<>(elements[middle],
+                buildBalanced(elements, fromIndex, middle),
+                buildBalanced(elements, middle + 1, toIndex));
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (Objects.isNull(node)) {
+            return new Node<>(element, null, null);
+        }
+
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        } else {
+            return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <T> Node<T> replace(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, replace(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, replace(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(element, node.left, node.right);
+        }
+    }
+
+    private static <T> Node<T> delete(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, delete(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, delete(node.right, index - leftSize - 1));
+        } else if (Objects.isNull(node.left)) {
+            return node.right;
+        } else if (Objects.isNull(node.right)) {
+            return node.left;
+        } else {
+            Node<T> successor = node.right;
+            while (Objects.nonNull(successor.left)) {
+                successor = successor.left;
+            }
+            return balance(successor.value, node.left, delete(node.right, 0));
+        }
+    }
+
+    /**
+     * Creates a new node out of the given value and subtrees, restoring the AVL property with rotations if heights of
+     * the subtrees differ by more than one.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int heightDifference = heightOf(left) - heightOf(right);
+        if (heightDifference > 1) {
+            if (heightOf(left.left) < heightOf(left.right)) {
+                Node<T> pivot = left.right;
+                return new Node<>(pivot.value,
+                        new Node<>(left.value, left.left, pivot.left),
+                        new Node<>(value, pivot.right, right));
+            }
+            return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+        } else if (heightDifference < -1) {
+            if (heightOf(right.right) < heightOf(right.left)) {
+                Node<T> pivot = right.left;
+                return new Node<>(pivot.value,
+                        new Node<>(value, left, pivot.left),
+                        new Node<>(right.value, pivot.right, right.right));
+            }
+            return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+        }
+
+        return new Node<>(value, left, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return Objects.isNull(node) ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return Objects.isNull(node) ? 0 : node.height;
+    }
+
+    private static class InOrderIterator<T> implements Iterator<T> {
+
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+
+        private InOrderIterator(Node<T> rootNode) {
+            pushLeftPath(rootNode);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            Node<T> node = path.pop();
+            pushLeftPath(node.right);
+            return node.value;
+        }
+
+        private void pushLeftPath(Node<T> node) {
+            for (; node != null; node = node.left) {
+                path.push(node);
+            }
+        }
+
+    }
+
+    private static class Node<T> {
+
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        private Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.bobocode;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link RecordCodec} converts list elements into fixed-width binary records and back. It is used by
+ * {@link OffHeapList} to keep elements outside of the Java heap.
+ *
+ * @param <T> generic type parameter
+ */
+public interface RecordCodec<T> {
+    /**
+     * Returns the number of bytes that every record takes
+     *
+     * @return record size in bytes
+     */
+    int recordSize();
+
+    /**
+     * Writes an element into the buffer starting at the given absolute offset. The codec must not write more than
+     * {@link #recordSize()} bytes and must not change the buffer position.
+     *
+     * @param buffer  a buffer to write to
+     * @param offset  an absolute offset of the record
+     * @param element element to write
+     */
+    void write(ByteBuffer buffer, int offset, T element);
+
+    /**
+     * Reads an element from the buffer starting at the given absolute offset, without changing the buffer position
+     *
+     * @param buffer a buffer to read from
+     * @param offset an absolute offset of the record
+     * @return an element value
+     */
+    T read(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,155 @@
+package com.bobocode;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.IntSupplier;
+
+/**
+ * {@link SubList} is a view of a range of another {@link List}. It doesn't copy elements, all its methods are
+ * translated into calls of the parent list methods shifted by the offset of the range. Changes made through the view
+ * are visible in the parent list and vice versa.
+ * <p>
+ * The view becomes invalid once the parent list is structurally modified not through the view, and following calls
+ * throw {@link ConcurrentModificationException}. Such a modification is detected by a changed modification counter of
+ * the parent list. Lists that don't provide a counter are checked by their size instead, which misses modifications
+ * that keep the size, e.g. a removal followed by an addition.
+ *
+ * @param <T> generic type parameter
+ */
+class SubList<T> implements List<T> {
+
+    private final List<T> parent;
+    private final IntSupplier parentModCount;
+    private final int offset;
+    private int size;
+    private int expectedParentModCount;
+
+    SubList(List<T> parent, int fromIndex, int toIndex) {
+        this(parent, fromIndex, toIndex, parent::size);
+    }
+
+    SubList(List<T> parent, int fromIndex, int toIndex, IntSupplier parentModCount) {
+        if (fromIndex < 0 || toIndex > parent.size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From index: " + fromIndex + ", to index: " + toIndex);
+        }
+        this.parent = parent;
+        this.parentModCount = parentModCount;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+        this.expectedParentModCount = parentModCount.getAsInt();
+    }
+
+    @Override
+    public void add(T element) {
+        add(size, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkForComodification();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        parent.add(offset + index, element);
+        size++;
+        expectedParentModCount = parentModCount.getAsInt();
+    }
+
+    @Override
+    public void set(int index, T element) {
+        checkForComodification();
+        checkElementIndex(index);
+
+        parent.set(offset + index, element);
+    }
+
+    @Override
+    public T get(int index) {
+        checkForComodification();
+        checkElementIndex(index);
+
+        return parent.get(offset + index);
+    }
+
+    @Override
+    public void remove(int index) {
+        checkForComodification();
+        checkElementIndex(index);
+
+        parent.remove(offset + index);
+        size--;
+        expectedParentModCount = parentModCount.getAsInt();
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (T currentElement : this) {
+            if (Objects.equals(element, currentElement)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        checkForComodification();
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size());
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkForComodification();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From index: " + fromIndex + ", to index: " + toIndex);
+        }
+
+        parent.removeRange(offset + fromIndex, offset + toIndex);
+        size -= toIndex - fromIndex;
+        expectedParentModCount = parentModCount.getAsInt();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator();
+    }
+
+    /**
+     * Returns a view of a range of this view, that is checked against the same modification counter of the parent
+     *
+     * @param fromIndex an index of the first element of the view
+     * @param toIndex   an index after the last element of the view
+     * @return a view of the specified range
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        checkForComodification();
+        return new SubList<>(this, fromIndex, toIndex, parentModCount);
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
+    private void checkForComodification() {
+        if (parentModCount.getAsInt() != expectedParentModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+}
@@ -0,0 +1,506 @@
+package com.bobocode;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link UnrolledLinkedList} is a list implementation that is based on doubly linked nodes, where every node holds a
+ * small array of elements instead of a single one. A node is split in two when an element is inserted into a full
+ * node, and it is merged with (or refilled from) its successor when it becomes less than half full.
+ * <p>
+ * Such a layout keeps cheap inserts in the middle of the list, while iteration and {@link #get(int)} jump over whole
+ * nodes and then read elements from a contiguous array.
+ *
+ * @param <T> generic type parameter
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private final int nodeCapacity;
+    private Node<T> headNode;
+    private Node<T> tailNode;
+    private int size;
+    private int modCount;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list, which nodes hold up to the given number of elements
+     *
+     * @param nodeCapacity maximum number of elements stored in a single node, must be at least 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity should be at least 2: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> List<T> of(T... elements) {
+        UnrolledLinkedList<T> unrolledLinkedList = new UnrolledLinkedList<>();
+        Arrays.stream(elements).forEach(unrolledLinkedList::add);
+
+        return unrolledLinkedList;
+    }
+
+    /**
+     * Adds an element to the end of the list
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        if (Objects.isNull(tailNode) || tailNode.count == nodeCapacity) {
+            linkAfter(tailNode, new Node<>(nodeCapacity));
+        }
+        tailNode.elements[tailNode.count++] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        Position<T> position = findPosition(index);
+        Node<T> node = position.node;
+        int offset = position.offset;
+        if (node.count == nodeCapacity) {
+            Node<T> newNode = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = newNode;
+            }
+        }
+
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = element;
+        node.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        Position<T> position = findPosition(index);
+        position.node.elements[position.offset] = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        Position<T> position = findPosition(index);
+        return (T) position.node.elements[position.offset];
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     */
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        Position<T> position = findPosition(index);
+        Node<T> node = position.node;
+        int offset = position.offset;
+
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+        size--;
+        modCount++;
+
+        rebalance(node);
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (Node<T> node = headNode; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(element, node.elements[i])) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        headNode = tailNode = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements, that reads them node by node
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledLinkedListIterator();
+    }
+
+    /**
+     * Returns a fail-fast {@link Spliterator} that splits the list into balanced halves. A split jumps over whole
+     * nodes to the middle of its range, and a traversal reads elements node by node.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new UnrolledLinkedListSpliterator(headNode, 0, size, modCount);
+    }
+
+    /**
+     * Returns a view of the list elements which index is between {@code fromIndex}, inclusive, and {@code toIndex},
+     * exclusive. The view is fail-fast, it is invalidated by any structural modification of the list that is not done
+     * through the view. In case provided indexes are out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex an index of the first element of the view
+     * @param toIndex   an index after the last element of the view
+     * @return a view of the specified range
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        return new SubList<>(this, fromIndex, toIndex, () -> modCount);
+    }
+
+    /**
+     * Finds a node that holds an element with the given index, walking either from the head or from the tail. The
+     * index is expected to be already checked against the list bounds.
+     *
+     * @param index element index
+     * @return a node and an offset of the element inside of it
+     */
+    private Position<T> findPosition(int index) {
+        if (index < (size >> 1)) {
+            Node<T> node = headNode;
+            int offset = index;
+            while (offset >= node.count) {
+                offset -= node.count;
+                node = node.next;
+            }
+            return new Position<>(node, offset);
+        } else {
+            Node<T> node = tailNode;
+            int offset = size - index;
+            while (offset > node.count) {
+                offset -= node.count;
+                node = node.prev;
+            }
+            return new Position<>(node, node.count - offset);
+        }
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node that is linked right after it.
+     */
+    private Node<T> split(Node<T> node) {
+        Node<T> newNode = new Node<>(nodeCapacity);
+        int half = node.count >> 1;
+        int moved = node.count - half;
+
+        System.arraycopy(node.elements, half, newNode.elements, 0, moved);
+        Arrays.fill(node.elements, half, node.count, null);
+        newNode.count = moved;
+        node.count = half;
+        linkAfter(node, newNode);
+
+        return newNode;
+    }
+
+    /**
+     * Keeps every node at least half full after a removal by merging it with the next node, or by borrowing elements
+     * from it when both don't fit into one node. Empty nodes are unlinked.
+     */
+    private void rebalance(Node<T> node) {
+        if (node.count == 0) {
+            unlink(node);
+            return;
+        }
+
+        int minCount = nodeCapacity >> 1;
+        Node<T> nextNode = node.next;
+        if (node.count >= minCount || Objects.isNull(nextNode)) {
+            return;
+        }
+
+        if (node.count + nextNode.count <= nodeCapacity) {
+            System.arraycopy(nextNode.elements, 0, node.elements, node.count, nextNode.count);
+            node.count += nextNode.count;
+            unlink(nextNode);
+        } else {
+            int moved = minCount - node.count;
+            System.arraycopy(nextNode.elements, 0, node.elements, node.count, moved);
+            System.arraycopy(nextNode.elements, moved, nextNode.elements, 0, nextNode.count - moved);
+            Arrays.fill(nextNode.elements, nextNode.count - moved, nextNode.count, null);
+            node.count += moved;
+            nextNode.count -= moved;
+        }
+    }
+
+    private void linkAfter(Node<T> node, Node<T> newNode) {
+        if (Objects.isNull(node)) {
+            headNode = tailNode = newNode;
+            return;
+        }
+
+        newNode.prev = node;
+        newNode.next = node.next;
+        if (Objects.isNull(node.next)) {
+            tailNode = newNode;
+        } else {
+            node.next.prev = newNode;
+        }
+        node.next = newNode;
+    }
+
+    private void unlink(Node<T> node) {
+        if (Objects.isNull(node.prev)) {
+            headNode = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+
+        if (Objects.isNull(node.next)) {
+            tailNode = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+
+        node.prev = node.next = null;
+    }
+
+    private class UnrolledLinkedListIterator implements Iterator<T> {
+
+        private Node<T> currentNode = headNode;
+        private int offset;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return currentNode != null && offset < currentNode.count;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            T value = (T) currentNode.elements[offset++];
+            if (offset == currentNode.count) {
+                currentNode = currentNode.next;
+                offset = 0;
+            }
+            return value;
+        }
+
+    }
+
+    private class UnrolledLinkedListSpliterator implements Spliterator<T> {
+
+        private Node<T> currentNode;
+        private int offset;
+        private int remaining;
+        private final int expectedModCount;
+
+        private UnrolledLinkedListSpliterator(Node<T> currentNode, int offset, int remaining, int expectedModCount) {
+            this.currentNode = currentNode;
+            this.offset = offset;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            checkForComodification();
+            if (remaining == 0) {
+                return false;
+            }
+
+            T value = (T) currentNode.elements[offset];
+            skip(1);
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            while (remaining > 0) {
+                checkForComodification();
+                int end = Math.min(currentNode.count, offset + remaining);
+                Object[] elements = currentNode.elements;
+                for (int i = offset; i < end; i++) {
+                    action.accept((T) elements[i]);
+                }
+                skip(end - offset);
+            }
+            checkForComodification();
+        }
+
+        /**
+         * Jumps over whole nodes to the middle of the remaining elements and hands the first half over to a new
+         * spliterator
+         */
+        @Override
+        public Spliterator<T> trySplit() {
+            checkForComodification();
+            if (remaining < 2) {
+                return null;
+            }
+
+            int half = remaining >>> 1;
+            Spliterator<T> prefix = new UnrolledLinkedListSpliterator(currentNode, offset, half, expectedModCount);
+            skip(half);
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void skip(int count) {
+            remaining -= count;
+            offset += count;
+            while (Objects.nonNull(currentNode) && offset >= currentNode.count) {
+                offset -= currentNode.count;
+                currentNode = currentNode.next;
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+    }
+
+    private static class Node<T> {
+
+        private final Object[] elements;
+        private int count;
+        private Node<T> prev;
+        private Node<T> next;
+
+        private Node(int capacity) {
+            elements = new Object[capacity];
+        }
+
+    }
+
+    private static class Position<T> {
+
+        private final Node<T> node;
+        private final int offset;
+
+        private Position(Node<T> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+
+    }
+
+}
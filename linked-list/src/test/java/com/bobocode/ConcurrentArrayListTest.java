@@ -0,0 +1,188 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentArrayListTest {
+
+    private List<Integer> intList = new ConcurrentArrayList<>(2);
+
+    @Test
+    void testAddSetAndRemoveElements() {
+        intList = ConcurrentArrayList.of(1, 2, 3);
+
+        intList.add(4);
+        intList.add(0, 0);
+        intList.set(2, 22);
+        intList.remove(3);
+
+        assertEquals(4, intList.size());
+        assertEquals(0, intList.get(0).intValue());
+        assertEquals(1, intList.get(1).intValue());
+        assertEquals(22, intList.get(2).intValue());
+        assertEquals(4, intList.get(3).intValue());
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        intList = ConcurrentArrayList.of(1, 2, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.add(4, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.set(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.remove(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.removeRange(2, 4));
+    }
+
+    @Test
+    void testBulkOperations() {
+        intList.addAll(Arrays.asList(0, 1, 2, 3, 4, 5));
+        intList.addAll(1, Arrays.asList(-1, -2));
+
+        intList.removeIf(element -> element < 0);
+        intList.removeRange(0, 2);
+        intList.sort((first, second) -> second - first);
+
+        assertEquals(4, intList.size());
+        assertEquals(5, intList.get(0).intValue());
+        assertEquals(2, intList.get(3).intValue());
+        assertTrue(intList.contains(3));
+        assertFalse(intList.contains(1));
+    }
+
+    @Test
+    void testRemoveIfKeepsListIntactWhenPredicateThrows() {
+        intList.addAll(Arrays.asList(0, 1, 2, 3, 4, 5));
+
+        assertThrows(IllegalStateException.class, () -> intList.removeIf(element -> {
+            if (element == 4) {
+                throw new IllegalStateException();
+            }
+            return element % 2 == 0;
+        }));
+
+        assertEquals(6, intList.size());
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i, intList.get(i).intValue());
+        }
+    }
+
+    @Test
+    void testIteratorWorksOverCopy() {
+        intList = ConcurrentArrayList.of(1, 2, 3);
+
+        Iterator<Integer> iterator = intList.iterator();
+        intList.clear();
+
+        assertEquals(1, iterator.next().intValue());
+        assertEquals(2, iterator.next().intValue());
+        assertEquals(3, iterator.next().intValue());
+        assertFalse(iterator.hasNext());
+        assertTrue(intList.isEmpty());
+    }
+
+    @Test
+    void testConcurrentProducersAndReaders() throws InterruptedException {
+        int producers = 4;
+        int elementsPerProducer = 10_000;
+        AtomicBoolean readNull = new AtomicBoolean();
+        Thread reader = new Thread(() -> {
+            while (intList.size() < producers * elementsPerProducer) {
+                int size = intList.size();
+                if (size > 0 && Objects.isNull(intList.get(size - 1))) {
+                    readNull.set(true);
+                }
+            }
+        });
+        reader.start();
+
+        measureThroughput(producers, elementsPerProducer, intList::add);
+        reader.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertFalse(reader.isAlive());
+        assertFalse(readNull.get());
+        assertEquals(producers * elementsPerProducer, intList.size());
+        assertEquals(producers * elementsPerProducer, intList.stream().distinct().count());
+    }
+
+    /**
+     * Compares producers that add to a {@link LinkedList} behind a global lock, to a {@link CopyOnWriteList} and to a
+     * {@link ConcurrentArrayList}. Run with {@code mvn test -Dbenchmark=true -Dtest=ConcurrentArrayListTest}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkConcurrentProducers() throws InterruptedException {
+        int elementsPerProducer = 10_000;
+        for (int producers : new int[]{1, 2, 4, 8}) {
+            report("LinkedList with lock", producers, elementsPerProducer, () -> {
+                List<Integer> list = new LinkedList<>();
+                return element -> {
+                    synchronized (list) {
+                        list.add(element);
+                    }
+                };
+            });
+            report("CopyOnWriteList", producers, elementsPerProducer, () -> new CopyOnWriteList<Integer>()::add);
+            report("ConcurrentArrayList", producers, elementsPerProducer,
+                    () -> new ConcurrentArrayList<Integer>()::add);
+        }
+    }
+
+    private static void report(String name, int producers, int elementsPerProducer,
+                               Supplier<IntConsumer> additionFactory) throws InterruptedException {
+        measureThroughput(producers, elementsPerProducer, additionFactory.get());
+        double throughput = measureThroughput(producers, elementsPerProducer, additionFactory.get());
+        System.out.printf("%-22s producers: %d, %,.0f adds/ms%n", name, producers, throughput);
+    }
+
+    /**
+     * Starts producers at once and waits until all of them are done
+     *
+     * @return number of added elements per millisecond
+     */
+    private static double measureThroughput(int producers, int elementsPerProducer, IntConsumer addition)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        for (int i = 0; i < producers; i++) {
+            int producer = i;
+            executor.execute(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < elementsPerProducer; j++) {
+                    addition.accept(producer * elementsPerProducer + j);
+                }
+            });
+        }
+
+        long startNanos = System.nanoTime();
+        startLatch.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        return (double) producers * elementsPerProducer * TimeUnit.MILLISECONDS.toNanos(1) / elapsedNanos;
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CopyOnWriteListTest {
+
+    private List<Integer> intList = new CopyOnWriteList<>();
+
+    @Test
+    void testAddSetAndRemoveElements() {
+        intList = CopyOnWriteList.of(1, 2, 3);
+
+        intList.add(4);
+        intList.add(0, 0);
+        intList.set(2, 22);
+        intList.remove(3);
+
+        assertEquals(4, intList.size());
+        assertEquals(0, intList.get(0).intValue());
+        assertEquals(1, intList.get(1).intValue());
+        assertEquals(22, intList.get(2).intValue());
+        assertEquals(4, intList.get(3).intValue());
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        intList = CopyOnWriteList.of(1, 2, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.add(4, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.set(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.remove(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.addAll(-1, Arrays.asList(1, 2)));
+    }
+
+    @Test
+    void testContains() {
+        intList = CopyOnWriteList.of(45, 6, 3, 6);
+
+        assertTrue(intList.contains(3));
+        assertFalse(intList.contains(54));
+    }
+
+    @Test
+    void testBulkOperations() {
+        intList.addAll(Arrays.asList(0, 1, 2, 3, 4, 5));
+        intList.addAll(1, Arrays.asList(-1, -2));
+
+        intList.removeIf(element -> element < 0);
+        intList.removeRange(0, 2);
+
+        assertEquals(4, intList.size());
+        assertEquals(2, intList.get(0).intValue());
+        assertEquals(5, intList.get(3).intValue());
+    }
+
+    @Test
+    void testIteratorWorksOverSnapshot() {
+        intList = CopyOnWriteList.of(1, 2, 3);
+
+        Iterator<Integer> iterator = intList.iterator();
+        intList.clear();
+
+        assertEquals(1, iterator.next().intValue());
+        assertEquals(2, iterator.next().intValue());
+        assertEquals(3, iterator.next().intValue());
+        assertFalse(iterator.hasNext());
+        assertTrue(intList.isEmpty());
+    }
+
+    @Test
+    void testConcurrentProducers() throws InterruptedException {
+        int producers = 4;
+        int elementsPerProducer = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        for (int i = 0; i < producers; i++) {
+            int producer = i;
+            executor.execute(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < elementsPerProducer; j++) {
+                    intList.add(producer * elementsPerProducer + j);
+                }
+            });
+        }
+        startLatch.countDown();
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(producers * elementsPerProducer, intList.size());
+        assertEquals(producers * elementsPerProducer, intList.stream().distinct().count());
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntListTest {
+
+    @Test
+    void testAddElementsToArrayList() {
+        verifyAddElements(IntArrayList::new);
+    }
+
+    @Test
+    void testAddElementsToLinkedList() {
+        verifyAddElements(IntLinkedList::new);
+    }
+
+    @Test
+    void testAddElementsByIndexToArrayList() {
+        verifyAddElementsByIndex(IntArrayList::new);
+    }
+
+    @Test
+    void testAddElementsByIndexToLinkedList() {
+        verifyAddElementsByIndex(IntLinkedList::new);
+    }
+
+    @Test
+    void testSetAndRemoveElementsInArrayList() {
+        verifySetAndRemoveElements(IntArrayList.of(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    void testSetAndRemoveElementsInLinkedList() {
+        verifySetAndRemoveElements(IntLinkedList.of(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    void testContainsInArrayList() {
+        verifyContains(IntArrayList.of(45, 6, 3, 6));
+    }
+
+    @Test
+    void testContainsInLinkedList() {
+        verifyContains(IntLinkedList.of(45, 6, 3, 6));
+    }
+
+    @Test
+    void testIndexOutOfBoundsInArrayList() {
+        verifyIndexOutOfBounds(IntArrayList.of(1, 2, 3));
+    }
+
+    @Test
+    void testIndexOutOfBoundsInLinkedList() {
+        verifyIndexOutOfBounds(IntLinkedList.of(1, 2, 3));
+    }
+
+    private void verifyAddElements(Supplier<IntList> listSupplier) {
+        IntList list = listSupplier.get();
+        for (int i = 0; i < 100; i++) {
+            list.addInt(i * 3);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(0, list.getInt(0));
+        assertEquals(150, list.getInt(50));
+        assertEquals(297, list.getInt(99));
+    }
+
+    private void verifyAddElementsByIndex(Supplier<IntList> listSupplier) {
+        IntList list = listSupplier.get();
+        list.addInt(0, 2);
+        list.addInt(0, 0);
+        list.addInt(1, 1);
+        list.addInt(3, 3);
+
+        assertEquals(4, list.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, list.getInt(i));
+        }
+    }
+
+    private void verifySetAndRemoveElements(IntList list) {
+        list.setInt(2, 33);
+        list.remove(0);
+        list.remove(list.size() - 1);
+
+        assertEquals(3, list.size());
+        assertEquals(2, list.getInt(0));
+        assertEquals(33, list.getInt(1));
+        assertEquals(4, list.getInt(2));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    private void verifyContains(IntList list) {
+        assertTrue(list.containsInt(3));
+        assertFalse(list.containsInt(54));
+    }
+
+    private void verifyIndexOutOfBounds(IntList list) {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.setInt(3, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addInt(4, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(3));
+    }
+
+}
@@ -1,13 +1,29 @@
 package com.bobocode;
 
 
+import com.sun.management.ThreadMXBean;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -309,4 +325,561 @@ public class LinkedListTest {
         assertThrows(IndexOutOfBoundsException.class, () -> intList.get(0));
     }
 
+    @Test
+    @Order(31)
+    void testGetElementsCloserToTheTail() {
+        intList = LinkedList.of(1, 2, 3, 4, 5, 6, 7);
+
+        assertEquals(7, intList.get(6).intValue());
+        assertEquals(6, intList.get(5).intValue());
+        assertEquals(4, intList.get(3).intValue());
+    }
+
+    @Test
+    @Order(32)
+    void testAddElementByIndexCloserToTheTail() {
+        intList = LinkedList.of(1, 2, 3, 4, 5, 6);
+
+        intList.add(5, 55);
+
+        assertEquals(7, intList.size());
+        assertEquals(5, intList.get(4).intValue());
+        assertEquals(55, intList.get(5).intValue());
+        assertEquals(6, intList.get(6).intValue());
+    }
+
+    @Test
+    @Order(33)
+    void testAddElementAfterRemovingLastElement() {
+        intList = LinkedList.of(4, 6, 8, 9);
+
+        intList.remove(intList.size() - 1);
+        intList.add(10);
+
+        assertEquals(4, intList.size());
+        assertEquals(8, intList.get(2).intValue());
+        assertEquals(10, intList.get(3).intValue());
+    }
+
+    @Test
+    @Order(34)
+    void testRemoveAllElementsFromTheTail() {
+        intList = LinkedList.of(1, 2, 3);
+
+        intList.remove(2);
+        intList.remove(1);
+        intList.remove(0);
+        intList.add(7);
+
+        assertEquals(1, intList.size());
+        assertEquals(7, intList.get(0).intValue());
+    }
+
+    @Test
+    @Order(35)
+    void testIterator() {
+        intList = LinkedList.of(4, 5, 6);
+
+        Iterator<Integer> iterator = intList.iterator();
+
+        assertEquals(4, iterator.next().intValue());
+        assertEquals(5, iterator.next().intValue());
+        assertEquals(6, iterator.next().intValue());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @Order(36)
+    void testIteratorFailsOnConcurrentModification() {
+        intList = LinkedList.of(4, 5, 6);
+
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+        intList.add(7);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    @Order(37)
+    void testStream() {
+        intList = LinkedList.of(4, 5, 6);
+
+        String joined = intList.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+        assertEquals("4,5,6", joined);
+    }
+
+    @Test
+    @Order(38)
+    void testParallelStream() {
+        IntStream.range(0, 10_000).forEach(intList::add);
+
+        long sum = intList.parallelStream().mapToLong(Integer::longValue).sum();
+        java.util.List<Integer> collected = intList.parallelStream().collect(Collectors.toList());
+
+        assertEquals(49_995_000L, sum);
+        assertEquals(10_000, collected.size());
+        assertEquals(9_999, collected.get(9_999).intValue());
+    }
+
+    @Test
+    @Order(39)
+    void testSpliteratorSplitsIntoBalancedHalves() {
+        intList = LinkedList.of(1, 2, 3, 4, 5, 6, 7);
+
+        Spliterator<Integer> suffix = intList.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(3, prefix.estimateSize());
+        assertEquals(4, suffix.estimateSize());
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+        prefix.tryAdvance(element -> assertEquals(1, element.intValue()));
+        suffix.tryAdvance(element -> assertEquals(4, element.intValue()));
+    }
+
+    @Test
+    @Order(40)
+    void testSequentialAccessAfterModifications() {
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            intList.add(i);
+            expected.add(i);
+        }
+
+        for (int i = 0; i < intList.size(); i += 3) {
+            intList.set(i, intList.get(i) * 10);
+            expected.set(i, expected.get(i) * 10);
+        }
+        for (int i = 1; i < 15; i += 4) {
+            intList.add(i, -i);
+            expected.add(i, -i);
+            intList.remove(i + 2);
+            expected.remove(i + 2);
+        }
+        intList.remove(0);
+        expected.remove(0);
+        intList.add(0, 100);
+        expected.add(0, 100);
+
+        assertEquals(expected.size(), intList.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), intList.get(i));
+        }
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            assertEquals(expected.get(i), intList.get(i));
+        }
+    }
+
+    @Test
+    @Order(41)
+    void testAddAll() {
+        intList = LinkedList.of(1, 2);
+
+        intList.addAll(Arrays.asList(3, 4, 5));
+        intList.add(6);
+
+        assertEquals(6, intList.size());
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i + 1, intList.get(i).intValue());
+        }
+    }
+
+    @Test
+    @Order(42)
+    void testAddAllByIndex() {
+        intList = LinkedList.of(1, 5);
+
+        intList.addAll(1, Arrays.asList(2, 3, 4));
+        intList.addAll(0, Arrays.asList(-1, 0));
+        intList.addAll(intList.size(), Arrays.asList(6, 7));
+
+        assertEquals(9, intList.size());
+        for (int i = 0; i < 9; i++) {
+            assertEquals(i - 1, intList.get(i).intValue());
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.addAll(10, Arrays.asList(8, 9)));
+    }
+
+    @Test
+    @Order(43)
+    void testRemoveIf() {
+        IntStream.range(0, 100_000).forEach(intList::add);
+
+        boolean removed = intList.removeIf(element -> element % 2 == 0);
+
+        assertTrue(removed);
+        assertEquals(50_000, intList.size());
+        assertEquals(1, intList.get(0).intValue());
+        assertEquals(99_999, intList.get(49_999).intValue());
+        assertFalse(intList.removeIf(element -> element % 2 == 0));
+    }
+
+    @Test
+    @Order(44)
+    void testRemoveIfRemovesAllElements() {
+        intList = LinkedList.of(1, 2, 3);
+
+        intList.removeIf(element -> true);
+        intList.add(4);
+
+        assertEquals(1, intList.size());
+        assertEquals(4, intList.get(0).intValue());
+    }
+
+    @Test
+    @Order(45)
+    void testRetainAll() {
+        intList = LinkedList.of(1, 2, 3, 4, 5);
+
+        intList.retainAll(Arrays.asList(2, 4, 6));
+
+        assertEquals(2, intList.size());
+        assertEquals(2, intList.get(0).intValue());
+        assertEquals(4, intList.get(1).intValue());
+    }
+
+    @Test
+    @Order(46)
+    void testRemoveRange() {
+        intList = LinkedList.of(0, 1, 2, 3, 4, 5, 6);
+
+        intList.removeRange(2, 5);
+        intList.removeRange(3, 4);
+
+        assertEquals(3, intList.size());
+        assertEquals(0, intList.get(0).intValue());
+        assertEquals(1, intList.get(1).intValue());
+        assertEquals(5, intList.get(2).intValue());
+        intList.add(7);
+        assertEquals(7, intList.get(3).intValue());
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.removeRange(2, 6));
+    }
+
+    @Test
+    @Order(47)
+    void testSort() {
+        Random random = new Random(42);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 1_001; i++) {
+            int element = random.nextInt(100);
+            intList.add(element);
+            expected.add(element);
+        }
+
+        intList.sort(Comparator.naturalOrder());
+        expected.sort(Comparator.naturalOrder());
+
+        assertEquals(expected.size(), intList.size());
+        int index = 0;
+        for (Integer element : intList) {
+            assertEquals(expected.get(index++), element);
+        }
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            assertEquals(expected.get(i), intList.get(i));
+        }
+    }
+
+    @Test
+    @Order(48)
+    void testSortKeepsTailNode() {
+        intList = LinkedList.of(3, 1, 2);
+
+        intList.sort(Comparator.naturalOrder());
+        intList.add(4);
+
+        assertEquals(4, intList.size());
+        assertEquals(1, intList.get(0).intValue());
+        assertEquals(3, intList.get(2).intValue());
+        assertEquals(4, intList.get(3).intValue());
+    }
+
+    @Test
+    @Order(49)
+    void testSortIsStable() {
+        List<String> stringList = LinkedList.of("bb", "a", "cc", "b", "aa", "c");
+
+        stringList.sort(Comparator.comparingInt(String::length));
+
+        assertEquals("a,b,c,bb,cc,aa", String.join(",", stringList));
+    }
+
+    @Test
+    @Order(50)
+    void testPooledListReusesRemovedNodes() {
+        intList = new LinkedList<>(4);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2_000; i++) {
+            int operation = random.nextInt(5);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                intList.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                intList.remove(index);
+                expected.remove(index);
+            } else if (operation == 3) {
+                int fromIndex = random.nextInt(expected.size());
+                int toIndex = Math.min(expected.size(), fromIndex + random.nextInt(6));
+                intList.removeRange(fromIndex, toIndex);
+                expected.subList(fromIndex, toIndex).clear();
+            } else if (i % 100 == 0) {
+                intList.clear();
+                expected.clear();
+            } else {
+                intList.addAll(Arrays.asList(i, -i));
+                expected.addAll(Arrays.asList(i, -i));
+            }
+        }
+
+        assertEquals(expected.size(), intList.size());
+        int index = 0;
+        for (Integer element : intList) {
+            assertEquals(expected.get(index++), element);
+        }
+    }
+
+    @Test
+    @Order(51)
+    void testListIteratorFiltersAndEditsInSinglePass() {
+        intList = LinkedList.of(1, 2, 3, 4, 5, 6);
+
+        ListIterator<Integer> iterator = intList.listIterator();
+        while (iterator.hasNext()) {
+            int element = iterator.next();
+            if (element % 2 == 0) {
+                iterator.remove();
+            } else if (element == 3) {
+                iterator.set(33);
+                iterator.add(34);
+            }
+        }
+        iterator.add(7);
+        intList.add(8);
+
+        assertEquals(6, intList.size());
+        assertEquals("1,33,34,5,7,8", intList.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        assertEquals(8, intList.get(intList.size() - 1).intValue());
+    }
+
+    @Test
+    @Order(52)
+    void testListIteratorMovesBackwards() {
+        intList = LinkedList.of(1, 2, 3);
+
+        ListIterator<Integer> iterator = intList.listIterator(intList.size());
+        assertEquals(3, iterator.previous().intValue());
+        iterator.remove();
+        assertEquals(2, iterator.previous().intValue());
+        assertEquals(1, iterator.previous().intValue());
+        assertFalse(iterator.hasPrevious());
+        iterator.add(0);
+
+        assertEquals(1, iterator.nextIndex());
+        assertEquals(1, iterator.next().intValue());
+        assertEquals(3, intList.size());
+        assertEquals(0, intList.get(0).intValue());
+        assertEquals(2, intList.get(2).intValue());
+        intList.add(3);
+        assertEquals(3, intList.get(3).intValue());
+    }
+
+    @Test
+    @Order(53)
+    void testListIteratorRemoveWithoutNext() {
+        intList = LinkedList.of(1, 2, 3);
+
+        ListIterator<Integer> iterator = intList.listIterator();
+
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.listIterator(4));
+    }
+
+    @Test
+    @Order(54)
+    void testAppendAll() {
+        LinkedList<Integer> firstList = new LinkedList<>();
+        firstList.addAll(Arrays.asList(1, 2));
+        LinkedList<Integer> secondList = new LinkedList<>();
+        secondList.addAll(Arrays.asList(3, 4, 5));
+
+        firstList.appendAll(secondList);
+        firstList.add(6);
+        secondList.add(7);
+
+        assertEquals(6, firstList.size());
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i + 1, firstList.get(i).intValue());
+        }
+        assertEquals(1, secondList.size());
+        assertEquals(7, secondList.get(0).intValue());
+        assertThrows(IllegalArgumentException.class, () -> firstList.appendAll(firstList));
+    }
+
+    @Test
+    @Order(55)
+    void testSplit() {
+        LinkedList<Integer> linkedList = new LinkedList<>();
+        linkedList.addAll(Arrays.asList(0, 1, 2, 3, 4));
+
+        LinkedList<Integer> tailList = linkedList.split(2);
+        linkedList.add(22);
+        tailList.add(5);
+
+        assertEquals(3, linkedList.size());
+        assertEquals(1, linkedList.get(1).intValue());
+        assertEquals(22, linkedList.get(2).intValue());
+        assertEquals(4, tailList.size());
+        assertEquals(2, tailList.get(0).intValue());
+        assertEquals(5, tailList.get(3).intValue());
+        assertTrue(linkedList.split(3).isEmpty());
+        assertEquals(3, linkedList.split(0).size());
+        assertTrue(linkedList.isEmpty());
+    }
+
+    @Test
+    @Order(56)
+    void testSubList() {
+        intList = LinkedList.of(0, 1, 2, 3, 4, 5);
+
+        List<Integer> subList = intList.subList(1, 4);
+        subList.set(0, 11);
+        subList.remove(1);
+        subList.add(33);
+
+        assertEquals(3, subList.size());
+        assertEquals(11, subList.get(0).intValue());
+        assertEquals(33, subList.get(2).intValue());
+        assertEquals("0,11,3,33,4,5", intList.stream().map(String::valueOf).collect(Collectors.joining(",")));
+
+        subList.clear();
+        assertEquals(3, intList.size());
+        assertEquals(4, intList.get(1).intValue());
+    }
+
+    @Test
+    @Order(57)
+    void testSubListFailsAfterParentModification() {
+        intList = LinkedList.of(0, 1, 2, 3);
+
+        List<Integer> subList = intList.subList(1, 3);
+        intList.add(4);
+
+        assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.subList(3, 6));
+    }
+
+    @Test
+    @Order(58)
+    void testSortKeepsAllElementsWhenComparatorThrows() {
+        for (int failingCall = 1; failingCall <= 40; failingCall++) {
+            intList = new LinkedList<>();
+            IntStream.range(0, 20).map(i -> (i * 7) % 20).forEach(intList::add);
+            int[] calls = {0};
+            int lastCall = failingCall;
+
+            assertThrows(IllegalStateException.class, () -> intList.sort((first, second) -> {
+                if (++calls[0] == lastCall) {
+                    throw new IllegalStateException();
+                }
+                return Integer.compare(first, second);
+            }));
+
+            assertEquals(20, intList.size());
+            java.util.List<Integer> forward = new java.util.ArrayList<>();
+            intList.forEach(forward::add);
+            assertEquals(IntStream.range(0, 20).boxed().collect(Collectors.toSet()), new HashSet<>(forward));
+            assertEquals(20, forward.size());
+            ListIterator<Integer> backward = intList.listIterator(20);
+            for (int i = 19; i >= 0; i--) {
+                assertEquals(forward.get(i), backward.previous());
+                assertEquals(forward.get(i), intList.get(i));
+            }
+        }
+    }
+
+    @Test
+    @Order(59)
+    void testSpliteratorFailsFastOnRemovalByAction() {
+        LinkedList<Integer> pooledList = new LinkedList<>(8);
+        IntStream.range(0, 10).forEach(pooledList::add);
+        java.util.List<Integer> visited = new java.util.ArrayList<>();
+        Spliterator<Integer> spliterator = pooledList.spliterator();
+
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.forEachRemaining(element -> {
+            visited.add(element);
+            pooledList.remove(1);
+        }));
+        assertEquals(Arrays.asList(0), visited);
+    }
+
+    /**
+     * Measures allocated bytes and time per add/remove pair with and without the node pool. Run with
+     * {@code mvn test -Dbenchmark=true -Dtest=LinkedListTest}.
+     */
+    @Test
+    @Order(60)
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkNodePoolChurn() {
+        int operations = 5_000_000;
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int nodePoolCapacity : new int[]{0, 64}) {
+            LinkedList<Integer> list = new LinkedList<>(nodePoolCapacity);
+            IntStream.range(0, 32).forEach(list::add);
+            churn(list, operations);
+
+            long allocatedBytes = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            long startNanos = System.nanoTime();
+            churn(list, operations);
+            long elapsedNanos = System.nanoTime() - startNanos;
+            allocatedBytes = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBytes;
+
+            System.out.printf("LinkedList node pool capacity: %d, %.2f bytes/op, %,.0f ops/ms%n", nodePoolCapacity,
+                    (double) allocatedBytes / operations, operations * 1e6 / elapsedNanos);
+        }
+    }
+
+    @Test
+    @Order(61)
+    void testSubListFailsAfterParentModificationThatKeepsSize() {
+        intList = LinkedList.of(1, 2, 3, 4, 5);
+        List<Integer> subList = intList.subList(1, 4);
+        List<Integer> nestedSubList = subList.subList(1, 2);
+
+        intList.remove(0);
+        intList.add(0, 99);
+
+        assertEquals(5, intList.size());
+        assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+        assertThrows(ConcurrentModificationException.class, () -> nestedSubList.get(0));
+    }
+
+    @Test
+    @Order(62)
+    void testNestedSubListWritesThrough() {
+        intList = LinkedList.of(1, 2, 3, 4, 5);
+        List<Integer> subList = intList.subList(1, 4);
+        List<Integer> nestedSubList = subList.subList(1, 3);
+
+        nestedSubList.remove(0);
+        nestedSubList.add(44);
+
+        assertEquals(3, subList.size());
+        assertEquals(4, subList.get(1).intValue());
+        assertEquals(44, subList.get(2).intValue());
+        assertEquals("1,2,4,44,5", intList.stream().map(String::valueOf).collect(Collectors.joining(",")));
+    }
+
+    private static void churn(LinkedList<Integer> list, int operations) {
+        for (int i = 0; i < operations; i++) {
+            list.add(1);
+            list.remove(0);
+        }
+    }
+
 }
@@ -0,0 +1,116 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongListTest {
+
+    @Test
+    void testAddElementsToArrayList() {
+        verifyAddElements(LongArrayList::new);
+    }
+
+    @Test
+    void testAddElementsToLinkedList() {
+        verifyAddElements(LongLinkedList::new);
+    }
+
+    @Test
+    void testAddElementsByIndexToArrayList() {
+        verifyAddElementsByIndex(LongArrayList::new);
+    }
+
+    @Test
+    void testAddElementsByIndexToLinkedList() {
+        verifyAddElementsByIndex(LongLinkedList::new);
+    }
+
+    @Test
+    void testSetAndRemoveElementsInArrayList() {
+        verifySetAndRemoveElements(LongArrayList.of(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    void testSetAndRemoveElementsInLinkedList() {
+        verifySetAndRemoveElements(LongLinkedList.of(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    void testContainsInArrayList() {
+        verifyContains(LongArrayList.of(45, 6, 3, 6));
+    }
+
+    @Test
+    void testContainsInLinkedList() {
+        verifyContains(LongLinkedList.of(45, 6, 3, 6));
+    }
+
+    @Test
+    void testIndexOutOfBoundsInArrayList() {
+        verifyIndexOutOfBounds(LongArrayList.of(1, 2, 3));
+    }
+
+    @Test
+    void testIndexOutOfBoundsInLinkedList() {
+        verifyIndexOutOfBounds(LongLinkedList.of(1, 2, 3));
+    }
+
+    private void verifyAddElements(Supplier<LongList> listSupplier) {
+        LongList list = listSupplier.get();
+        for (int i = 0; i < 100; i++) {
+            list.addLong(i * 3);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(0, list.getLong(0));
+        assertEquals(150, list.getLong(50));
+        assertEquals(297, list.getLong(99));
+    }
+
+    private void verifyAddElementsByIndex(Supplier<LongList> listSupplier) {
+        LongList list = listSupplier.get();
+        list.addLong(0, 2);
+        list.addLong(0, 0);
+        list.addLong(1, 1);
+        list.addLong(3, 3);
+
+        assertEquals(4, list.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, list.getLong(i));
+        }
+    }
+
+    private void verifySetAndRemoveElements(LongList list) {
+        list.setLong(2, 33);
+        list.remove(0);
+        list.remove(list.size() - 1);
+
+        assertEquals(3, list.size());
+        assertEquals(2, list.getLong(0));
+        assertEquals(33, list.getLong(1));
+        assertEquals(4, list.getLong(2));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    private void verifyContains(LongList list) {
+        assertTrue(list.containsLong(3));
+        assertFalse(list.containsLong(54));
+    }
+
+    private void verifyIndexOutOfBounds(LongList list) {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getLong(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getLong(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.setLong(3, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addLong(4, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(3));
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapListTest {
+
+    private List<Balance> balanceList = new OffHeapList<>(new BalanceCodec(), 4, ByteBuffer::allocateDirect);
+
+    @Test
+    void testAddElementsAcrossSegments() {
+        for (int i = 0; i < 10; i++) {
+            balanceList.add(new Balance(i, i * 100L));
+        }
+
+        assertEquals(10, balanceList.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(new Balance(i, i * 100L), balanceList.get(i));
+        }
+    }
+
+    @Test
+    void testAddElementByIndex() {
+        for (int i = 0; i < 5; i++) {
+            balanceList.add(new Balance(i, 0));
+        }
+
+        balanceList.add(0, new Balance(-1, 0));
+        balanceList.add(3, new Balance(33, 0));
+        balanceList.add(7, new Balance(77, 0));
+
+        assertEquals(8, balanceList.size());
+        assertEquals(-1, balanceList.get(0).id);
+        assertEquals(1, balanceList.get(2).id);
+        assertEquals(33, balanceList.get(3).id);
+        assertEquals(2, balanceList.get(4).id);
+        assertEquals(77, balanceList.get(7).id);
+    }
+
+    @Test
+    void testSetAndRemoveElements() {
+        for (int i = 0; i < 6; i++) {
+            balanceList.add(new Balance(i, 0));
+        }
+
+        balanceList.set(4, new Balance(4, 400));
+        balanceList.remove(1);
+        balanceList.remove(4);
+
+        assertEquals(4, balanceList.size());
+        assertEquals(2, balanceList.get(1).id);
+        assertEquals(new Balance(4, 400), balanceList.get(3));
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        balanceList.add(new Balance(1, 1));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> balanceList.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> balanceList.add(2, new Balance(2, 2)));
+        assertThrows(IndexOutOfBoundsException.class, () -> balanceList.set(-1, new Balance(2, 2)));
+        assertThrows(IndexOutOfBoundsException.class, () -> balanceList.remove(1));
+    }
+
+    @Test
+    void testContainsAndClear() {
+        balanceList.add(new Balance(1, 10));
+        balanceList.add(new Balance(2, 20));
+
+        assertTrue(balanceList.contains(new Balance(2, 20)));
+        assertFalse(balanceList.contains(new Balance(2, 21)));
+
+        balanceList.clear();
+        assertTrue(balanceList.isEmpty());
+        assertFalse(balanceList.contains(new Balance(1, 10)));
+    }
+
+    @Test
+    void testIterator() {
+        for (int i = 0; i < 9; i++) {
+            balanceList.add(new Balance(i, i));
+        }
+
+        assertEquals(36, balanceList.stream().mapToLong(balance -> balance.amount).sum());
+    }
+
+    @Test
+    void testSpliteratorSplitsIntoBalancedHalves() {
+        for (int i = 0; i < 10; i++) {
+            balanceList.add(new Balance(i, i));
+        }
+
+        Spliterator<Balance> suffix = balanceList.spliterator();
+        Spliterator<Balance> prefix = suffix.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(5, prefix.estimateSize());
+        assertEquals(5, suffix.estimateSize());
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        prefix.tryAdvance(element -> assertEquals(0, element.id));
+        suffix.tryAdvance(element -> assertEquals(5, element.id));
+        assertEquals(45L, balanceList.parallelStream().mapToLong(balance -> balance.amount).sum());
+    }
+
+    @Test
+    void testSpliteratorIsFailFast() {
+        balanceList.add(new Balance(1, 1));
+        Spliterator<Balance> spliterator = balanceList.spliterator();
+
+        balanceList.add(new Balance(2, 2));
+
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.tryAdvance(element -> { }));
+    }
+
+    @Test
+    void testRandomOperationsMatchArrayList() {
+        for (IntFunction<ByteBuffer> segmentAllocator : Arrays.<IntFunction<ByteBuffer>>asList(
+                ByteBuffer::allocateDirect, ByteBuffer::allocate)) {
+            balanceList = new OffHeapList<>(new BalanceCodec(), 5, segmentAllocator);
+            java.util.List<Balance> expected = new ArrayList<>();
+            Random random = new Random(42);
+
+            for (int i = 0; i < 3_000; i++) {
+                if (random.nextInt(3) < 2 || expected.isEmpty()) {
+                    int index = random.nextInt(expected.size() + 1);
+                    expected.add(index, new Balance(i, -i));
+                    balanceList.add(index, new Balance(i, -i));
+                } else {
+                    int index = random.nextInt(expected.size());
+                    expected.remove(index);
+                    balanceList.remove(index);
+                }
+            }
+
+            assertEquals(expected.size(), balanceList.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), balanceList.get(i));
+            }
+        }
+    }
+
+    private static class Balance {
+
+        private final long id;
+        private final long amount;
+
+        private Balance(long id, long amount) {
+            this.id = id;
+            this.amount = amount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Balance)) {
+                return false;
+            }
+            Balance balance = (Balance) o;
+            return id == balance.id && amount == balance.amount;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, amount);
+        }
+
+    }
+
+    private static class BalanceCodec implements RecordCodec<Balance> {
+
+        @Override
+        public int recordSize() {
+            return 2 * Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Balance element) {
+            buffer.putLong(offset, element.id);
+            buffer.putLong(offset + Long.BYTES, element.amount);
+        }
+
+        @Override
+        public Balance read(ByteBuffer buffer, int offset) {
+            return new Balance(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES));
+        }
+
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PersistentListTest {
+
+    @Test
+    void testPlusReturnsNewVersion() {
+        PersistentList<Integer> emptyList = PersistentList.empty();
+
+        PersistentList<Integer> firstVersion = emptyList.plus(1);
+        PersistentList<Integer> secondVersion = firstVersion.plus(2).plus(0, 0);
+
+        assertTrue(emptyList.isEmpty());
+        assertEquals(1, firstVersion.size());
+        assertEquals(1, firstVersion.get(0).intValue());
+        assertEquals(3, secondVersion.size());
+        assertEquals(0, secondVersion.get(0).intValue());
+        assertEquals(1, secondVersion.get(1).intValue());
+        assertEquals(2, secondVersion.get(2).intValue());
+    }
+
+    @Test
+    void testWithAndMinusKeepPreviousVersion() {
+        PersistentList<Integer> list = PersistentList.of(1, 2, 3, 4);
+
+        PersistentList<Integer> changedList = list.with(1, 22).minus(3);
+
+        assertEquals(4, list.size());
+        assertEquals(2, list.get(1).intValue());
+        assertEquals(4, list.get(3).intValue());
+        assertEquals(3, changedList.size());
+        assertEquals(22, changedList.get(1).intValue());
+        assertEquals(3, changedList.get(2).intValue());
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        PersistentList<Integer> list = PersistentList.of(1, 2, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(4, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(3));
+    }
+
+    @Test
+    void testInPlaceModificationsAreNotSupported() {
+        List<Integer> list = PersistentList.of(1, 2, 3);
+
+        assertThrows(UnsupportedOperationException.class, () -> list.add(4));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, 4));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 4));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+    }
+
+    @Test
+    void testContains() {
+        PersistentList<Integer> list = PersistentList.of(45, 6, 3, 6);
+
+        assertTrue(list.contains(3));
+        assertFalse(list.contains(54));
+    }
+
+    @Test
+    void testRandomOperationsMatchArrayList() {
+        java.util.List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                list = list.with(index, -i);
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        int index = 0;
+        for (Integer element : list) {
+            assertEquals(expected.get(index), element);
+            assertEquals(expected.get(index), list.get(index));
+            index++;
+        }
+    }
+
+    @Test
+    void testSpliteratorSplitsIntoBalancedHalves() {
+        PersistentList<Integer> list = PersistentList.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        Spliterator<Integer> suffix = list.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(5, prefix.estimateSize());
+        assertEquals(5, suffix.estimateSize());
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        prefix.tryAdvance(element -> assertEquals(0, element.intValue()));
+        suffix.tryAdvance(element -> assertEquals(5, element.intValue()));
+        assertEquals(45L, list.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+}
@@ -0,0 +1,265 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class UnrolledLinkedListTest {
+
+    private List<Integer> intList = new UnrolledLinkedList<>(4);
+
+    @Test
+    @Order(1)
+    void testAddElements() {
+        intList = UnrolledLinkedList.of(43, 233, 54);
+
+        assertEquals(3, intList.size());
+        assertEquals(43, intList.get(0).intValue());
+        assertEquals(233, intList.get(1).intValue());
+        assertEquals(54, intList.get(2).intValue());
+    }
+
+    @Test
+    @Order(2)
+    void testAddElementsBeyondNodeCapacity() {
+        for (int i = 0; i < 10; i++) {
+            intList.add(i);
+        }
+
+        assertEquals(10, intList.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, intList.get(i).intValue());
+        }
+    }
+
+    @Test
+    @Order(3)
+    void testAddElementByIndexIntoFullNode() {
+        for (int i = 0; i < 4; i++) {
+            intList.add(i);
+        }
+
+        intList.add(1, 11);
+        intList.add(4, 44);
+
+        assertEquals(6, intList.size());
+        assertEquals(0, intList.get(0).intValue());
+        assertEquals(11, intList.get(1).intValue());
+        assertEquals(1, intList.get(2).intValue());
+        assertEquals(2, intList.get(3).intValue());
+        assertEquals(44, intList.get(4).intValue());
+        assertEquals(3, intList.get(5).intValue());
+    }
+
+    @Test
+    @Order(4)
+    void testAddElementByIndexOutOfBounds() {
+        intList.add(1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.add(-1, 66));
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.add(2, 66));
+    }
+
+    @Test
+    @Order(5)
+    void testSetElementByIndex() {
+        for (int i = 0; i < 9; i++) {
+            intList.add(i);
+        }
+
+        intList.set(6, 66);
+
+        assertEquals(66, intList.get(6).intValue());
+        assertEquals(5, intList.get(5).intValue());
+        assertEquals(7, intList.get(7).intValue());
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.set(9, 99));
+    }
+
+    @Test
+    @Order(6)
+    void testRemoveElementsMergesNodes() {
+        for (int i = 0; i < 8; i++) {
+            intList.add(i);
+        }
+
+        intList.remove(1);
+        intList.remove(1);
+        intList.remove(1);
+
+        assertEquals(5, intList.size());
+        assertEquals(0, intList.get(0).intValue());
+        assertEquals(4, intList.get(1).intValue());
+        assertEquals(7, intList.get(4).intValue());
+    }
+
+    @Test
+    @Order(7)
+    void testRemoveAllElements() {
+        for (int i = 0; i < 6; i++) {
+            intList.add(i);
+        }
+
+        for (int i = 5; i >= 0; i--) {
+            intList.remove(i);
+        }
+        intList.add(42);
+
+        assertEquals(1, intList.size());
+        assertEquals(42, intList.get(0).intValue());
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.remove(1));
+    }
+
+    @Test
+    @Order(8)
+    void testContains() {
+        intList = UnrolledLinkedList.of(45, 6, 3, 6);
+
+        assertTrue(intList.contains(3));
+        assertFalse(intList.contains(54));
+    }
+
+    @Test
+    @Order(9)
+    void testClear() {
+        intList = UnrolledLinkedList.of(4, 5, 6);
+
+        intList.clear();
+
+        assertTrue(intList.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.get(0));
+    }
+
+    @Test
+    @Order(10)
+    void testRandomOperationsMatchArrayList() {
+        java.util.List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                intList.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                intList.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                intList.set(index, -i);
+            }
+        }
+
+        assertEquals(expected.size(), intList.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), intList.get(i));
+        }
+    }
+
+    @Test
+    @Order(11)
+    void testIterator() {
+        for (int i = 0; i < 10; i++) {
+            intList.add(i);
+        }
+
+        int expected = 0;
+        for (Integer element : intList) {
+            assertEquals(expected++, element.intValue());
+        }
+        assertEquals(10, expected);
+        assertEquals(45, intList.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    @Order(12)
+    void testBulkOperations() {
+        intList.addAll(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        intList.addAll(2, Arrays.asList(-1, -2));
+
+        intList.removeIf(element -> element < 0 || element % 3 == 0);
+        intList.removeRange(1, 3);
+
+        assertEquals(4, intList.size());
+        assertEquals(1, intList.get(0).intValue());
+        assertEquals(5, intList.get(1).intValue());
+        assertEquals(7, intList.get(2).intValue());
+        assertEquals(8, intList.get(3).intValue());
+    }
+
+    @Test
+    @Order(13)
+    void testListIterator() {
+        intList = UnrolledLinkedList.of(1, 2, 3, 4);
+
+        ListIterator<Integer> iterator = intList.listIterator();
+        while (iterator.hasNext()) {
+            int element = iterator.next();
+            if (element % 2 == 0) {
+                iterator.remove();
+            } else {
+                iterator.set(element * 10);
+                iterator.add(element * 10 + 1);
+            }
+        }
+
+        assertEquals(4, intList.size());
+        assertEquals(10, intList.get(0).intValue());
+        assertEquals(11, intList.get(1).intValue());
+        assertEquals(30, intList.get(2).intValue());
+        assertEquals(31, intList.get(3).intValue());
+    }
+
+    @Test
+    @Order(14)
+    void testSpliteratorSplitsIntoBalancedHalves() {
+        IntStream.range(0, 10).forEach(intList::add);
+
+        Spliterator<Integer> suffix = intList.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(5, prefix.estimateSize());
+        assertEquals(5, suffix.estimateSize());
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        prefix.tryAdvance(element -> assertEquals(0, element.intValue()));
+        suffix.tryAdvance(element -> assertEquals(5, element.intValue()));
+
+        Spliterator<Integer> suffixPrefix = suffix.trySplit();
+        assertEquals(2, suffixPrefix.estimateSize());
+        assertEquals(2, suffix.estimateSize());
+        suffixPrefix.forEachRemaining(element -> assertTrue(element == 6 || element == 7));
+        suffix.forEachRemaining(element -> assertTrue(element == 8 || element == 9));
+    }
+
+    @Test
+    @Order(15)
+    void testParallelStream() {
+        IntStream.range(0, 10_000).forEach(intList::add);
+
+        long sum = intList.parallelStream().mapToLong(Integer::longValue).sum();
+        java.util.List<Integer> collected = intList.parallelStream().collect(Collectors.toList());
+
+        assertEquals(49_995_000L, sum);
+        assertEquals(intList.stream().collect(Collectors.toList()), collected);
+    }
+
+}
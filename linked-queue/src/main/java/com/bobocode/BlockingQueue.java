@@ -0,0 +1,58 @@
+package com.bobocode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BlockingQueue} is a {@link Queue} with a bounded capacity, that additionally supports operations which wait
+ * for the queue to become non-empty when retrieving an element, and wait for free space when adding an element. The
+ * waiting on a full queue applies backpressure to producers.
+ * <p>
+ * Non-blocking methods keep the {@link Queue} contract, except that {@link Queue#add(Object)} throws
+ * {@link IllegalStateException} if the queue is full.
+ */
+public interface BlockingQueue<T> extends Queue<T> {
+    /**
+     * Adds an element to the end of the queue, waiting if necessary for free space.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void put(T element) throws InterruptedException;
+
+    /**
+     * Adds an element to the end of the queue, waiting up to the specified time if necessary for free space.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait before giving up
+     * @param unit    a unit of the timeout
+     * @return {@code true} if the element was added, {@code false} if the timeout elapsed before space was available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting if necessary until an element becomes available.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if interrupted while waiting
+     */
+    T take() throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting up to the specified time if necessary for an element to become
+     * available.
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit    a unit of the timeout
+     * @return an element that was retrieved from the head or null if the timeout elapsed before an element was available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    T poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Returns the number of elements that can be added to the queue without waiting.
+     *
+     * @return remaining capacity
+     */
+    int remainingCapacity();
+}
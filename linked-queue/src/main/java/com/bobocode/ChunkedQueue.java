@@ -0,0 +1,176 @@
+package com.bobocode;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link ChunkedQueue} implements unbounded FIFO {@link Queue}, using linked segments, i.e. arrays of a fixed size,
+ * instead of a node per element. Elements are added to the tail segment and polled from the head segment, so
+ * {@link ChunkedQueue#add(Object)} and {@link ChunkedQueue#poll()} are performed in a constant time, and memory is
+ * allocated only when the tail segment is full. A segment is released as soon as all its elements are polled.
+ * <p>
+ * Neighbouring elements share an array, so the queue takes about one reference per element instead of a whole node,
+ * and it is walked in the order of memory. The queue keeps one drained segment as a spare, so a queue that keeps
+ * growing and shrinking around a segment boundary doesn't allocate a new segment every time. The queue doesn't accept
+ * {@code null} elements.
+ *
+ * @param <T> a generic parameter
+ */
+public class ChunkedQueue<T> implements Queue<T> {
+
+    private static final int DEFAULT_SEGMENT_SIZE = 1024;
+
+    private final int segmentSize;
+    private Segment headSegment;
+    private Segment tailSegment;
+    private Segment spareSegment;
+    private int headIndex;
+    private int tailIndex;
+    private int size;
+
+    public ChunkedQueue() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates an empty queue, which segments hold the given number of elements
+     *
+     * @param segmentSize number of elements in a segment
+     */
+    public ChunkedQueue(int segmentSize) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size should be positive: " + segmentSize);
+        }
+        this.segmentSize = segmentSize;
+        this.headSegment = this.tailSegment = new Segment(segmentSize);
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        if (tailIndex == segmentSize) {
+            Segment newSegment = newSegment();
+            tailSegment.next = newSegment;
+            tailSegment = newSegment;
+            tailIndex = 0;
+        }
+
+        tailSegment.elements[tailIndex++] = element;
+        size++;
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+
+        T element = (T) headSegment.elements[headIndex];
+        headSegment.elements[headIndex++] = null;
+        size--;
+        moveHeadIfDrained();
+        return element;
+    }
+
+    /**
+     * Retrieves and removes up to the given number of elements from the head of the queue, passing them to the
+     * consumer in FIFO order. Elements are read segment by segment.
+     *
+     * @param consumer    a consumer of retrieved elements
+     * @param maxElements maximum number of elements to retrieve
+     * @return the number of retrieved elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        int count = 0;
+        while (count < maxElements && size > 0) {
+            int endIndex = headSegment == tailSegment ? tailIndex : segmentSize;
+            int batchEndIndex = (int) Math.min(endIndex, (long) headIndex + maxElements - count);
+            Object[] elements = headSegment.elements;
+            try {
+                while (headIndex < batchEndIndex) {
+                    T element = (T) elements[headIndex];
+                    elements[headIndex++] = null;
+                    size--;
+                    count++;
+                    consumer.accept(element);
+                }
+            } finally {
+                moveHeadIfDrained();
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Releases the head segment once all its elements are polled. An empty queue always has a single segment, which is
+     * reused from its beginning.
+     */
+    private void moveHeadIfDrained() {
+        if (size == 0) {
+            headIndex = tailIndex = 0;
+        } else if (headIndex == segmentSize) {
+            Segment drainedSegment = headSegment;
+            headSegment = drainedSegment.next;
+            headIndex = 0;
+            drainedSegment.next = null;
+            spareSegment = drainedSegment;
+        }
+    }
+
+    private Segment newSegment() {
+        Segment segment = spareSegment;
+        if (Objects.isNull(segment)) {
+            return new Segment(segmentSize);
+        }
+
+        spareSegment = null;
+        return segment;
+    }
+
+    private static class Segment {
+
+        private final Object[] elements;
+        private Segment next;
+
+        private Segment(int size) {
+            this.elements = new Object[size];
+        }
+
+    }
+
+}
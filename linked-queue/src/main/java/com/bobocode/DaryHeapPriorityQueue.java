@@ -0,0 +1,156 @@
+package com.bobocode;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * {@link DaryHeapPriorityQueue} is a priority {@link Queue} that is based on an implicit d-ary heap stored in an array.
+ * Instead of FIFO order, {@link #poll()} always retrieves the smallest element according to the given
+ * {@link Comparator}. Operations {@link #add(Object)} and {@link #poll()} are performed in O(log n) time.
+ * <p>
+ * A node at index {@code i} has its children at indexes from {@code d * i + 1} to {@code d * i + d}. A bigger arity
+ * makes the heap shallower, so {@link #add(Object)} does fewer moves, and children of a node are compared within one
+ * or two cache lines. The default arity is 4. Elements that are equal according to the comparator are retrieved in no
+ * particular order. The queue doesn't accept {@code null} elements.
+ *
+ * @param <T> a generic parameter
+ */
+public class DaryHeapPriorityQueue<T> implements Queue<T> {
+
+    private static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Comparator<? super T> comparator;
+    private final int arity;
+    private Object[] heap = new Object[DEFAULT_CAPACITY];
+    private int size;
+
+    public DaryHeapPriorityQueue(Comparator<? super T> comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * Creates an empty queue, which heap nodes have the given number of children
+     *
+     * @param arity      number of children of every heap node
+     * @param comparator a comparator that defines priority of elements
+     */
+    public DaryHeapPriorityQueue(int arity, Comparator<? super T> comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity should be at least 2: " + arity);
+        }
+        this.arity = arity;
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    /**
+     * Adds an element to the queue, moving it up the heap to its position
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length + (heap.length >> 1));
+        }
+        siftUp(size++, element);
+    }
+
+    /**
+     * Retrieves and removes the smallest element of the queue
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+
+        T element = (T) heap[0];
+        T lastElement = (T) heap[--size];
+        heap[size] = null;
+        if (size > 0) {
+            siftDown(0, lastElement);
+        }
+        return element;
+    }
+
+    /**
+     * Retrieves, but doesn't remove the smallest element of the queue
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return (T) heap[0];
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Moves parents that are bigger than the element down, until a place for the element is found
+     */
+    @SuppressWarnings("unchecked")
+    private void siftUp(int index, T element) {
+        while (index > 0) {
+            int parentIndex = (index - 1) / arity;
+            T parent = (T) heap[parentIndex];
+            if (comparator.compare(element, parent) >= 0) {
+                break;
+            }
+            heap[index] = parent;
+            index = parentIndex;
+        }
+        heap[index] = element;
+    }
+
+    /**
+     * Moves the smallest child up while it is smaller than the element, until a place for the element is found
+     */
+    @SuppressWarnings("unchecked")
+    private void siftDown(int index, T element) {
+        while (true) {
+            int firstChildIndex = arity * index + 1;
+            if (firstChildIndex >= size) {
+                break;
+            }
+
+            int lastChildIndex = Math.min(firstChildIndex + arity, size);
+            int smallestChildIndex = firstChildIndex;
+            for (int childIndex = firstChildIndex + 1; childIndex < lastChildIndex; childIndex++) {
+                if (comparator.compare((T) heap[childIndex], (T) heap[smallestChildIndex]) < 0) {
+                    smallestChildIndex = childIndex;
+                }
+            }
+            if (comparator.compare(element, (T) heap[smallestChildIndex]) <= 0) {
+                break;
+            }
+            heap[index] = heap[smallestChildIndex];
+            index = smallestChildIndex;
+        }
+        heap[index] = element;
+    }
+
+}
@@ -0,0 +1,550 @@
+package com.bobocode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * {@link JournaledQueue} is a durable FIFO {@link Queue}. Every added element is converted into bytes by a
+ * {@link Serializer} and appended to a journal, i.e. a sequence of segment files, and the position of the next element
+ * to poll is kept in a separate checkpoint file. When the queue is opened again, it replays the journal from the
+ * checkpoint, so elements survive a restart.
+ * <p>
+ * Calling {@code fsync} for every element would limit the queue by the disk latency, so the queue uses group commit:
+ * appended records and the checkpoint are forced to the disk once per {@code syncBatchSize} operations, or when
+ * {@code syncInterval} passed since the previous commit. The interval is checked by {@link #add(Object)} and
+ * {@link #poll()}, and by a background daemon thread, which commits the last operations before a pause. A failure of
+ * the background commit is thrown by the next operation. A crash loses only operations after the last commit:
+ * uncommitted elements may be lost, and elements polled after the last commit are returned again, so consumers should
+ * be idempotent.
+ * <p>
+ * A record is an {@code int} length, an {@code int} CRC32 checksum of the length and the bytes, and the serialized
+ * bytes. Replay stops at the first incomplete or damaged record of a segment and truncates the segment, dropping a
+ * record that was torn by a crash. A record that failed to be written is cut off right away, so the next one is
+ * appended after the last complete record. Segments are rolled when they reach {@code segmentSize}, and segments that
+ * were completely consumed are deleted once the checkpoint that passes them is committed.
+ * <p>
+ * Up to {@code memoryCapacity} elements from the head of the queue are kept in memory, the rest of them are read back
+ * from the journal in batches when the head gets to them, so the heap doesn't grow with the backlog. The queue is
+ * thread-safe, all operations are guarded by one {@link ReentrantLock}. It doesn't accept {@code null} elements, and it
+ * should be closed to stop the background thread.
+ *
+ * @param <T> a generic parameter
+ */
+public class JournaledQueue<T> implements Queue<T>, Closeable {
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+    private static final int DEFAULT_SYNC_BATCH_SIZE = 64;
+    private static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(10);
+    private static final int DEFAULT_MEMORY_CAPACITY = 1024;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final Pattern SEGMENT_FILE = Pattern.compile("journal-(\\d+)\\.log");
+
+    private final Path directory;
+    private final Serializer<T> serializer;
+    private final long segmentSize;
+    private final int syncBatchSize;
+    private final long syncIntervalNanos;
+    private final int memoryCapacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedQueue<Entry<T>> entries = new LinkedQueue<>();
+    private final CRC32 checksum = new CRC32();
+    private final ScheduledExecutorService syncScheduler;
+    private FileChannel writeChannel;
+    private long writeSegmentId;
+    private long writePosition;
+    private long readSegmentId;
+    private long readPosition;
+    private int size;
+    private long oldestSegmentId;
+    private long checkpointSegmentId;
+    private long checkpointPosition;
+    private boolean checkpointChanged;
+    private int pendingOperations;
+    private long lastCommitNanos = System.nanoTime();
+    private IOException syncFailure;
+    private boolean closed;
+
+    /**
+     * Opens a queue in the given directory with segments of 64 MB, committing every 64 operations or every 10 ms, and
+     * keeping up to 1024 elements in memory
+     *
+     * @param directory  a directory of the journal
+     * @param serializer a serializer that converts elements into bytes
+     */
+    public JournaledQueue(Path directory, Serializer<T> serializer) {
+        this(directory, serializer, DEFAULT_SEGMENT_SIZE, DEFAULT_SYNC_BATCH_SIZE, DEFAULT_SYNC_INTERVAL);
+    }
+
+    /**
+     * Opens a queue in the given directory, keeping up to 1024 elements in memory
+     *
+     * @param directory     a directory of the journal
+     * @param serializer    a serializer that converts elements into bytes
+     * @param segmentSize   size of a segment file in bytes, after which a new segment is started
+     * @param syncBatchSize number of operations after which the journal is forced to the disk, 1 forces every one
+     * @param syncInterval  maximum time between forcing the journal to the disk
+     */
+    public JournaledQueue(Path directory, Serializer<T> serializer, long segmentSize, int syncBatchSize,
+                          Duration syncInterval) {
+        this(directory, serializer, segmentSize, syncBatchSize, syncInterval, DEFAULT_MEMORY_CAPACITY);
+    }
+
+    /**
+     * Opens a queue in the given directory, replaying the journal that is already there
+     *
+     * @param directory      a directory of the journal
+     * @param serializer     a serializer that converts elements into bytes
+     * @param segmentSize    size of a segment file in bytes, after which a new segment is started
+     * @param syncBatchSize  number of operations after which the journal is forced to the disk, 1 forces every one
+     * @param syncInterval   maximum time between forcing the journal to the disk
+     * @param memoryCapacity maximum number of elements kept in memory
+     */
+    public JournaledQueue(Path directory, Serializer<T> serializer, long segmentSize, int syncBatchSize,
+                          Duration syncInterval, int memoryCapacity) {
+        this.directory = Objects.requireNonNull(directory);
+        this.serializer = Objects.requireNonNull(serializer);
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size should be positive: " + segmentSize);
+        }
+        if (syncBatchSize <= 0) {
+            throw new IllegalArgumentException("Sync batch size should be positive: " + syncBatchSize);
+        }
+        if (syncInterval.isNegative() || syncInterval.isZero()) {
+            throw new IllegalArgumentException("Sync interval should be positive: " + syncInterval);
+        }
+        if (memoryCapacity <= 0) {
+            throw new IllegalArgumentException("Memory capacity should be positive: " + memoryCapacity);
+        }
+        this.segmentSize = segmentSize;
+        this.syncBatchSize = syncBatchSize;
+        this.syncIntervalNanos = syncInterval.toNanos();
+        this.memoryCapacity = memoryCapacity;
+        try {
+            Files.createDirectories(directory);
+            replay();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.syncScheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "journal-sync-" + directory.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncScheduler.scheduleWithFixedDelay(this::commitInBackground, syncIntervalNanos, syncIntervalNanos,
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Appends an element to the journal and adds it to the end of the queue. The element is also kept in memory if
+     * all elements before it are in memory and there is free space.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        byte[] bytes = serializer.serialize(element);
+        lock.lock();
+        try {
+            ensureOpen();
+            throwSyncFailure();
+            ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + bytes.length);
+            record.putInt(bytes.length).putInt(checksumOf(bytes.length, bytes)).put(bytes).flip();
+            append(record);
+            if (entries.size() == size && size < memoryCapacity) {
+                entries.add(new Entry<>(element, writeSegmentId, writePosition));
+                readSegmentId = writeSegmentId;
+                readPosition = writePosition;
+            }
+            size++;
+
+            pendingOperations++;
+            if (writePosition >= segmentSize) {
+                commit();
+                startSegment(writeSegmentId + 1);
+            } else {
+                commitIfNeeded();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head, moving the checkpoint past it. In case there are no elements in memory, the
+     * next batch of them is read from the journal.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        lock.lock();
+        try {
+            ensureOpen();
+            throwSyncFailure();
+            if (size == 0) {
+                return null;
+            }
+            if (entries.isEmpty()) {
+                readEntries();
+            }
+
+            Entry<T> entry = entries.poll();
+            size--;
+
+            checkpointSegmentId = entry.segmentId;
+            checkpointPosition = entry.endPosition;
+            checkpointChanged = true;
+            pendingOperations++;
+            commitIfNeeded();
+            return entry.value;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Forces all appended records and the current checkpoint to the disk, and deletes consumed segments
+     */
+    public void sync() {
+        lock.lock();
+        try {
+            ensureOpen();
+            throwSyncFailure();
+            commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Commits all operations, stops the background thread and closes the journal. The queue can't be used after it
+     * is closed.
+     *
+     * @throws IOException if the journal can't be written
+     */
+    @Override
+    public void close() throws IOException {
+        // not shutdownNow(), an interrupt during force() would close the channel
+        syncScheduler.shutdown();
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                commit();
+            } finally {
+                writeChannel.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a record at the write position. A partially written record is cut off, so the next record is written
+     * right after the last complete one and no garbage is left between them.
+     */
+    private void append(ByteBuffer record) throws IOException {
+        try {
+            while (record.hasRemaining()) {
+                writeChannel.write(record, writePosition + record.position());
+            }
+        } catch (IOException e) {
+            try {
+                writeChannel.truncate(writePosition);
+            } catch (IOException truncateException) {
+                e.addSuppressed(truncateException);
+            }
+            throw e;
+        }
+        writePosition += record.capacity();
+    }
+
+    /**
+     * Reads the next elements from the journal into memory, starting after the last element that was kept in memory
+     */
+    private void readEntries() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        int count = Math.min(memoryCapacity, size);
+        while (entries.size() < count) {
+            try (FileChannel channel = FileChannel.open(segmentPath(readSegmentId), StandardOpenOption.READ)) {
+                long endPosition = readSegmentId == writeSegmentId ? writePosition : channel.size();
+                while (readPosition < endPosition && entries.size() < count) {
+                    header.clear();
+                    readFully(channel, header, readPosition);
+                    byte[] bytes = new byte[header.getInt(0)];
+                    readFully(channel, ByteBuffer.wrap(bytes), readPosition + RECORD_HEADER_SIZE);
+                    readPosition += RECORD_HEADER_SIZE + bytes.length;
+                    entries.add(new Entry<>(serializer.deserialize(bytes), readSegmentId, readPosition));
+                }
+                if (entries.size() < count && readSegmentId == writeSegmentId) {
+                    throw new IOException("Unexpected end of journal");
+                }
+                if (readPosition >= endPosition && readSegmentId < writeSegmentId) {
+                    readSegmentId++;
+                    readPosition = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Commits operations that have been waiting longer than the sync interval, e.g. the last ones before a pause. It
+     * runs in the background thread, and a failure is kept to be thrown by the next operation.
+     */
+    private void commitInBackground() {
+        lock.lock();
+        try {
+            if (!closed && Objects.isNull(syncFailure) && pendingOperations > 0
+                    && System.nanoTime() - lastCommitNanos >= syncIntervalNanos) {
+                commit();
+            }
+        } catch (IOException e) {
+            syncFailure = e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void throwSyncFailure() throws IOException {
+        if (Objects.nonNull(syncFailure)) {
+            IOException failure = syncFailure;
+            syncFailure = null;
+            throw failure;
+        }
+    }
+
+    private void commitIfNeeded() throws IOException {
+        if (pendingOperations >= syncBatchSize || System.nanoTime() - lastCommitNanos >= syncIntervalNanos) {
+            commit();
+        }
+    }
+
+    private void commit() throws IOException {
+        writeChannel.force(false);
+        if (checkpointChanged) {
+            writeCheckpoint();
+            checkpointChanged = false;
+            for (; oldestSegmentId < checkpointSegmentId; oldestSegmentId++) {
+                Files.deleteIfExists(segmentPath(oldestSegmentId));
+            }
+        }
+        pendingOperations = 0;
+        lastCommitNanos = System.nanoTime();
+    }
+
+    /**
+     * Writes the checkpoint to a temporary file and atomically renames it, so a crash never leaves a partially
+     * written checkpoint
+     */
+    private void writeCheckpoint() throws IOException {
+        Path temporaryPath = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+            buffer.putLong(checkpointSegmentId).putLong(checkpointPosition).flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporaryPath, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Reads the checkpoint, deletes segments before it and validates records of the remaining segments. Elements are
+     * read into memory by the first {@link #poll()}.
+     */
+    private void replay() throws IOException {
+        Path checkpointPath = directory.resolve(CHECKPOINT_FILE);
+        if (Files.exists(checkpointPath)) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(checkpointPath));
+            checkpointSegmentId = buffer.getLong();
+            checkpointPosition = buffer.getLong();
+        }
+
+        // a missing checkpoint segment can't be appended to, since its records before the checkpoint are gone
+        writeSegmentId = checkpointPosition == 0 ? checkpointSegmentId : checkpointSegmentId + 1;
+        readSegmentId = -1;
+        for (long segmentId : listSegmentIds()) {
+            if (segmentId < checkpointSegmentId) {
+                Files.deleteIfExists(segmentPath(segmentId));
+            } else {
+                long startPosition = segmentId == checkpointSegmentId ? checkpointPosition : 0;
+                if (readSegmentId < 0) {
+                    readSegmentId = segmentId;
+                    readPosition = startPosition;
+                }
+                writePosition = replaySegment(segmentId, startPosition);
+                writeSegmentId = segmentId;
+            }
+        }
+        if (readSegmentId < 0) {
+            readSegmentId = writeSegmentId;
+            readPosition = writePosition;
+        }
+        oldestSegmentId = checkpointSegmentId;
+
+        writeChannel = FileChannel.open(segmentPath(writeSegmentId), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Counts valid records of a segment and truncates the segment after the last valid one
+     *
+     * @return the end position of the last valid record
+     */
+    private long replaySegment(long segmentId, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(segmentId), StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long fileSize = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            while (position + RECORD_HEADER_SIZE <= fileSize) {
+                header.clear();
+                readFully(channel, header, position);
+                int length = header.getInt(0);
+                if (length < 0 || position + RECORD_HEADER_SIZE + length > fileSize) {
+                    break;
+                }
+
+                byte[] bytes = new byte[length];
+                readFully(channel, ByteBuffer.wrap(bytes), position + RECORD_HEADER_SIZE);
+                if (checksumOf(length, bytes) != header.getInt(Integer.BYTES)) {
+                    break;
+                }
+                position += RECORD_HEADER_SIZE + length;
+                size++;
+            }
+
+            if (position < fileSize) {
+                channel.truncate(position);
+            }
+            return position;
+        }
+    }
+
+    private void startSegment(long segmentId) throws IOException {
+        // a failed write could leave bytes after the last record, they would be taken for records by readEntries()
+        writeChannel.truncate(writePosition);
+        writeChannel.close();
+        writeSegmentId = segmentId;
+        writePosition = 0;
+        writeChannel = FileChannel.open(segmentPath(segmentId), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+    }
+
+    private List<Long> listSegmentIds() throws IOException {
+        List<Long> segmentIds = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segmentIds.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+        segmentIds.sort(null);
+        return segmentIds;
+    }
+
+    private Path segmentPath(long segmentId) {
+        return directory.resolve(String.format("journal-%019d.log", segmentId));
+    }
+
+    /**
+     * Computes a checksum of the record length and bytes. The length is included, so a zero-filled tail of a file is
+     * never taken for a valid empty record.
+     */
+    private int checksumOf(int length, byte[] bytes) {
+        checksum.reset();
+        checksum.update(ByteBuffer.allocate(Integer.BYTES).putInt(0, length));
+        checksum.update(bytes);
+        return (int) checksum.getValue();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int count = channel.read(buffer, position + buffer.position());
+            if (count < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Queue is closed");
+        }
+    }
+
+    private static class Entry<T> {
+
+        private final T value;
+        private final long segmentId;
+        private final long endPosition;
+
+        private Entry(T value, long segmentId, long endPosition) {
+            this.value = value;
+            this.segmentId = segmentId;
+            this.endPosition = endPosition;
+        }
+
+    }
+
+}
@@ -0,0 +1,275 @@
+package com.bobocode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * {@link LinkedBlockingQueue} implements bounded {@link BlockingQueue}, keeping elements in a {@link LinkedQueue}
+ * that is guarded by a {@link ReentrantLock}. Consumers wait on a "not empty" condition and producers wait on a
+ * "not full" condition, so a full queue slows producers down instead of growing without limits.
+ * <p>
+ * Waiting threads are parked with {@link java.util.concurrent.locks.LockSupport} rather than by monitors of
+ * {@code synchronized} blocks, so a waiting virtual thread unmounts from its carrier thread, and thousands of virtual
+ * consumers can share one queue. The queue doesn't accept {@code null} elements.
+ *
+ * @param <T> a generic parameter
+ */
+public class LinkedBlockingQueue<T> implements BlockingQueue<T> {
+
+    private final int capacity;
+    private final LinkedQueue<T> elements = new LinkedQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    public LinkedBlockingQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates an empty queue that holds up to the given number of elements
+     *
+     * @param capacity maximum number of elements
+     */
+    public LinkedBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds an element to the end of the queue. In case the queue is full it throws {@link IllegalStateException}
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        lock.lock();
+        try {
+            if (elements.size() == capacity) {
+                throw new IllegalStateException("Queue is full");
+            }
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting if necessary for free space.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public void put(T element) throws InterruptedException {
+        Objects.requireNonNull(element);
+        lock.lockInterruptibly();
+        try {
+            while (elements.size() == capacity) {
+                notFull.await();
+            }
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting up to the specified time if necessary for free space.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait before giving up
+     * @param unit    a unit of the timeout
+     * @return {@code true} if the element was added, {@code false} if the timeout elapsed before space was available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(element);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (elements.size() == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head. It never waits.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        lock.lock();
+        try {
+            return elements.isEmpty() ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting if necessary until an element becomes available.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (elements.isEmpty()) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting up to the specified time if necessary for an element to become
+     * available.
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit    a unit of the timeout
+     * @return an element that was retrieved from the head or null if the timeout elapsed before an element was available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (elements.isEmpty()) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes up to the given number of elements from the head of the queue, passing them to the
+     * consumer in FIFO order. It never waits. The whole batch is taken under one lock acquisition, and waiting
+     * producers are signalled once, even if the consumer throws an exception after some elements were removed.
+     *
+     * @param consumer    a consumer of retrieved elements
+     * @param maxElements maximum number of elements to retrieve
+     * @return the number of retrieved elements
+     */
+    @Override
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        int[] count = new int[1];
+        lock.lock();
+        try {
+            elements.drainTo(element -> {
+                count[0]++;
+                consumer.accept(element);
+            }, maxElements);
+            return count[0];
+        } finally {
+            if (count[0] > 0) {
+                notFull.signalAll();
+            }
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds all elements to the end of the queue under one lock acquisition. Either all elements are added, or, in
+     * case there is not enough free space for all of them, none is added and {@link IllegalStateException} is thrown.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Iterable<? extends T> elements) {
+        List<T> batch = new ArrayList<>();
+        for (T element : elements) {
+            batch.add(Objects.requireNonNull(element));
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (capacity - this.elements.size() < batch.size()) {
+                throw new IllegalStateException("Not enough space in the queue for " + batch.size() + " elements");
+            }
+            this.elements.addAll(batch);
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return elements.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements that can be added to the queue without waiting.
+     *
+     * @return remaining capacity
+     */
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    private void enqueue(T element) {
+        elements.add(element);
+        notEmpty.signal();
+    }
+
+    private T dequeue() {
+        T element = elements.poll();
+        notFull.signal();
+        return element;
+    }
+
+}
@@ -1,11 +1,15 @@
 package com.bobocode;
 
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * {@link LinkedQueue} implements FIFO {@link Queue}, using singly linked nodes. Nodes are stores in instances of nested
  * class Node. In order to perform operations {@link LinkedQueue#add(Object)} and {@link LinkedQueue#poll()}
  * in a constant time, it keeps to references to the head and tail of the queue.
+ * <p>
+ * Optionally, polled nodes can be kept in a bounded per-instance pool and reused by following additions, which
+ * reduces the allocation rate of queues with heavy add/poll churn.
  *
  * @param <T> a generic parameter
  */
@@ -14,6 +18,25 @@ public class LinkedQueue<T> implements Queue<T> {
     private int size;
     private Node<T> headNode;
     private Node<T> tailNode;
+    private final int nodePoolCapacity;
+    private Node<T> pooledNode;
+    private int pooledNodeCount;
+
+    public LinkedQueue() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty queue that keeps up to the given number of polled nodes and reuses them for new elements
+     *
+     * @param nodePoolCapacity maximum number of pooled nodes, {@code 0} disables pooling
+     */
+    public LinkedQueue(int nodePoolCapacity) {
+        if (nodePoolCapacity < 0) {
+            throw new IllegalArgumentException("Node pool capacity should not be negative: " + nodePoolCapacity);
+        }
+        this.nodePoolCapacity = nodePoolCapacity;
+    }
 
     /**
      * Adds an element to the end of the queue.
@@ -21,7 +44,7 @@ public class LinkedQueue<T> implements Queue<T> {
      * @param element the element to add
      */
     public void add(T element) {
-        Node<T> newNode = Node.valueOf(element);
+        Node<T> newNode = newNode(element);
 
         if (Objects.isNull(headNode)) {
             headNode = tailNode = newNode;
@@ -49,7 +72,77 @@ public class LinkedQueue<T> implements Queue<T> {
         }
         size--;
 
-        return resultNode.value;
+        T value = resultNode.value;
+        if (pooledNodeCount < nodePoolCapacity) {
+            recycleNode(resultNode);
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves and removes up to the given number of elements from the head of the queue, passing them to the
+     * consumer in FIFO order. Every node is unlinked before its element is passed to the consumer, so the consumer may
+     * add elements to the queue, e.g. when the queue is used as a work list.
+     *
+     * @param consumer    a consumer of retrieved elements
+     * @param maxElements maximum number of elements to retrieve
+     * @return the number of retrieved elements
+     */
+    @Override
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        int count = 0;
+        while (count < maxElements && Objects.nonNull(headNode)) {
+            Node<T> drainedNode = headNode;
+            headNode = drainedNode.next;
+            if (Objects.isNull(headNode)) {
+                tailNode = null;
+            }
+            size--;
+            count++;
+
+            T value = drainedNode.value;
+            if (pooledNodeCount < nodePoolCapacity) {
+                recycleNode(drainedNode);
+            }
+            consumer.accept(value);
+        }
+
+        return count;
+    }
+
+    /**
+     * Adds all elements to the end of the queue. New nodes are linked to each other first, and then the whole chain
+     * is attached to the tail at once.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Iterable<? extends T> elements) {
+        Node<T> firstNode = null;
+        Node<T> lastNode = null;
+        int count = 0;
+        for (T element : elements) {
+            Node<T> newNode = newNode(element);
+            if (Objects.isNull(firstNode)) {
+                firstNode = newNode;
+            } else {
+                lastNode.next = newNode;
+            }
+            lastNode = newNode;
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+
+        if (Objects.isNull(headNode)) {
+            headNode = firstNode;
+        } else {
+            tailNode.next = firstNode;
+        }
+        tailNode = lastNode;
+        size += count;
     }
 
     /**
@@ -70,6 +163,29 @@ public class LinkedQueue<T> implements Queue<T> {
         return size == 0;
     }
 
+    /**
+     * Takes a node from the pool, or allocates a new one if the pool is empty
+     */
+    private Node<T> newNode(T element) {
+        Node<T> node = pooledNode;
+        if (Objects.isNull(node)) {
+            return Node.valueOf(element);
+        }
+
+        pooledNode = node.next;
+        pooledNodeCount--;
+        node.value = element;
+        node.next = null;
+        return node;
+    }
+
+    private void recycleNode(Node<T> node) {
+        node.value = null;
+        node.next = pooledNode;
+        pooledNode = node;
+        pooledNodeCount++;
+    }
+
     private static class Node<T> {
 
         T value;
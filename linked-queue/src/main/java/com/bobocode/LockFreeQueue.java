@@ -0,0 +1,260 @@
+package com.bobocode;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link LockFreeQueue} is a thread-safe FIFO {@link Queue} for multiple producers and multiple consumers, that is
+ * based on the Michael-Scott algorithm. The queue is a singly linked list that always starts with a dummy node.
+ * Producers link new nodes to the tail and consumers move the head forward, both with compare-and-set operations over
+ * {@link VarHandle}s, so no thread ever blocks and a stalled thread cannot stop the others.
+ * <p>
+ * The queue doesn't accept {@code null} elements, since {@code null} is returned by {@link #poll()} when the queue is
+ * empty. Method {@link #size()} is approximate while the queue is concurrently modified.
+ * <p>
+ * Batch methods {@link #addAll(Iterable)} and {@link #drainTo(Consumer, int)} link or unlink a whole chain of nodes
+ * with a single successful compare-and-set, instead of one per element.
+ *
+ * @param <T> a generic parameter
+ */
+public class LockFreeQueue<T> implements Queue<T> {
+
+    private static final VarHandle HEAD_NODE;
+    private static final VarHandle TAIL_NODE;
+    private static final VarHandle NEXT_NODE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD_NODE = lookup.findVarHandle(LockFreeQueue.class, "headNode", Node.class);
+            TAIL_NODE = lookup.findVarHandle(LockFreeQueue.class, "tailNode", Node.class);
+            NEXT_NODE = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final LongAdder size = new LongAdder();
+    private volatile Node<T> headNode;
+    private volatile Node<T> tailNode;
+
+    public LockFreeQueue() {
+        headNode = tailNode = new Node<>(null);
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        Node<T> newNode = new Node<>(element);
+        linkChain(newNode, newNode);
+        size.increment();
+    }
+
+    /**
+     * Adds all elements to the end of the queue. New nodes are linked to each other first, and then the whole chain
+     * is attached to the tail with a single compare-and-set, so elements of the batch are never interleaved with
+     * elements added by other producers.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Iterable<? extends T> elements) {
+        Node<T> firstNode = null;
+        Node<T> lastNode = null;
+        int count = 0;
+        for (T element : elements) {
+            Node<T> newNode = new Node<>(Objects.requireNonNull(element));
+            if (Objects.isNull(firstNode)) {
+                firstNode = newNode;
+            } else {
+                lastNode.next = newNode;
+            }
+            lastNode = newNode;
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+
+        linkChain(firstNode, lastNode);
+        size.add(count);
+    }
+
+    /**
+     * Retrieves and removes queue head. It never blocks.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        while (true) {
+            Node<T> head = headNode;
+            Node<T> tail = tailNode;
+            Node<T> next = head.next;
+            if (head != headNode) {
+                continue;
+            }
+
+            if (head == tail) {
+                if (Objects.isNull(next)) {
+                    return null;
+                }
+                TAIL_NODE.compareAndSet(this, tail, next);
+            } else {
+                T value = next.value;
+                if (HEAD_NODE.compareAndSet(this, head, next)) {
+                    next.value = null;
+                    size.decrement();
+                    return value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes up to the given number of elements from the head of the queue, passing them to the
+     * consumer in FIFO order. Every successful compare-and-set of the head takes all available nodes up to the
+     * current tail at once. In case the consumer throws an exception, elements of the batch that were not passed to it
+     * yet are added back to the end of the queue.
+     *
+     * @param consumer    a consumer of retrieved elements
+     * @param maxElements maximum number of elements to retrieve
+     * @return the number of retrieved elements
+     */
+    @Override
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        int count = 0;
+        while (count < maxElements) {
+            Node<T> head = headNode;
+            Node<T> tail = tailNode;
+            Node<T> next = head.next;
+            if (head != headNode) {
+                continue;
+            }
+
+            if (head == tail) {
+                if (Objects.isNull(next)) {
+                    break;
+                }
+                TAIL_NODE.compareAndSet(this, tail, next);
+                continue;
+            }
+
+            Node<T> lastNode = next;
+            int batchSize = 1;
+            while (batchSize < maxElements - count && lastNode != tail) {
+                lastNode = lastNode.next;
+                batchSize++;
+            }
+            if (!HEAD_NODE.compareAndSet(this, head, lastNode)) {
+                continue;
+            }
+
+            size.add(-batchSize);
+            count += batchSize;
+            Node<T> deliveredNode = head;
+            try {
+                while (deliveredNode != lastNode) {
+                    deliveredNode = deliveredNode.next;
+                    T value = deliveredNode.value;
+                    deliveredNode.value = null;
+                    consumer.accept(value);
+                }
+            } finally {
+                if (deliveredNode != lastNode) {
+                    requeueAfter(deliveredNode, lastNode);
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns an approximate size of the queue. The result is exact only if there are no concurrent modifications.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, size.sum()));
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return Objects.isNull(headNode.next);
+    }
+
+    /**
+     * Attaches a chain of linked nodes to the tail of the queue with a single successful compare-and-set
+     */
+    private void linkChain(Node<T> firstNode, Node<T> lastNode) {
+        while (true) {
+            Node<T> tail = tailNode;
+            Node<T> next = tail.next;
+            if (tail != tailNode) {
+                continue;
+            }
+
+            if (Objects.isNull(next)) {
+                if (NEXT_NODE.compareAndSet(tail, null, firstNode)) {
+                    TAIL_NODE.compareAndSet(this, tail, lastNode);
+                    return;
+                }
+            } else {
+                TAIL_NODE.compareAndSet(this, tail, next);
+            }
+        }
+    }
+
+    /**
+     * Adds values of the claimed nodes that follow the delivered one, up to the last claimed node, back to the tail
+     * of the queue. The last claimed node is the dummy head now, so the values are moved to new nodes.
+     */
+    private void requeueAfter(Node<T> deliveredNode, Node<T> lastNode) {
+        Node<T> firstNode = null;
+        Node<T> lastNewNode = null;
+        int count = 0;
+        for (Node<T> node = deliveredNode; node != lastNode; ) {
+            node = node.next;
+            Node<T> newNode = new Node<>(node.value);
+            node.value = null;
+            if (Objects.isNull(firstNode)) {
+                firstNode = newNode;
+            } else {
+                lastNewNode.next = newNode;
+            }
+            lastNewNode = newNode;
+            count++;
+        }
+
+        linkChain(firstNode, lastNewNode);
+        size.add(count);
+    }
+
+    private static class Node<T> {
+
+        T value;
+        volatile Node<T> next;
+
+        Node(T value) {
+            this.value = value;
+        }
+
+    }
+
+}
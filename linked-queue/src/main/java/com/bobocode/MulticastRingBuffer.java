@@ -0,0 +1,250 @@
+package com.bobocode;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link MulticastRingBuffer} is a bounded ring of preallocated events for one producer thread and any number of
+ * subscribers, where every subscriber reads every published event. The producer doesn't create events, it claims the
+ * next slot with {@link #next()}, fills the event in place and makes it visible with {@link #publish(long)}, so events
+ * are allocated only once, when the ring is created, and are never copied.
+ * <p>
+ * The producer publishes a cursor {@link Sequence}, and every {@link Subscriber} publishes a sequence of the last event
+ * it has processed. A subscriber can depend on other subscribers, then it reads only events that all of them have
+ * already processed, which builds a pipeline of stages over the same events. The producer never overwrites a slot
+ * until every subscriber has moved past it. A subscriber processes all available events as a batch and publishes its
+ * sequence once per batch. Threads that wait for a sequence use the chosen {@link WaitStrategy}.
+ * <p>
+ * The ring doesn't implement {@link Queue}, since an event is not removed when it is read. Methods {@link #next()},
+ * {@link #publish(long)} and {@link #subscribe(Subscriber[])} should be called only from the producer thread, and
+ * subscribers should be created before the first event is published. Every subscriber should be used by one thread.
+ *
+ * @param <E> a type of events
+ */
+public class MulticastRingBuffer<E> {
+
+    private static final Sequence[] NO_SEQUENCES = new Sequence[0];
+
+    private final Object[] events;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final Sequence cursor = new Sequence(-1);
+    private volatile Sequence[] gatingSequences = NO_SEQUENCES;
+    private long nextSequence = -1;
+    private long cachedGatingSequence = -1;
+
+    /**
+     * Creates a ring and fills it with events returned by the factory
+     *
+     * @param capacity     number of events in the ring, should be a power of two
+     * @param eventFactory a factory of preallocated events
+     * @param waitStrategy a strategy of waiting for sequences
+     */
+    public MulticastRingBuffer(int capacity, Supplier<? extends E> eventFactory, WaitStrategy waitStrategy) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity should be a power of two: " + capacity);
+        }
+        this.events = new Object[capacity];
+        for (int i = 0; i < capacity; i++) {
+            events[i] = Objects.requireNonNull(eventFactory.get());
+        }
+        this.mask = capacity - 1;
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+    }
+
+    /**
+     * Creates a subscriber, that reads events after they are processed by all given subscribers, or right after they
+     * are published if no subscribers are given. The subscriber starts after the last published event.
+     *
+     * @param dependencies subscribers of this ring that should process events first
+     * @return a new subscriber
+     */
+    @SafeVarargs
+    public final Subscriber<E> subscribe(Subscriber<E>... dependencies) {
+        Sequence[] barrierSequences = new Sequence[]{cursor};
+        if (dependencies.length > 0) {
+            barrierSequences = new Sequence[dependencies.length];
+            for (int i = 0; i < dependencies.length; i++) {
+                if (dependencies[i].ring != this) {
+                    throw new IllegalArgumentException("Subscriber belongs to another ring");
+                }
+                barrierSequences[i] = dependencies[i].sequence;
+            }
+        }
+
+        Subscriber<E> subscriber = new Subscriber<>(this, barrierSequences, cursor.get());
+        Sequence[] currentSequences = gatingSequences;
+        Sequence[] newSequences = Arrays.copyOf(currentSequences, currentSequences.length + 1);
+        newSequences[currentSequences.length] = subscriber.sequence;
+        gatingSequences = newSequences;
+        return subscriber;
+    }
+
+    /**
+     * Claims the next slot of the ring, waiting while the slowest subscriber hasn't processed the event that was
+     * published into this slot one lap ago
+     *
+     * @return a sequence of the claimed slot
+     */
+    public long next() {
+        long sequence = nextSequence + 1;
+        long wrapPoint = sequence - events.length;
+        if (wrapPoint > cachedGatingSequence) {
+            int attempts = 0;
+            long minimumSequence;
+            while (wrapPoint > (minimumSequence = minimumSequence(gatingSequences, sequence - 1))) {
+                waitStrategy.idle(attempts++);
+            }
+            cachedGatingSequence = minimumSequence;
+        }
+
+        nextSequence = sequence;
+        return sequence;
+    }
+
+    /**
+     * Returns an event of the given sequence. The producer fills the event between {@link #next()} and
+     * {@link #publish(long)}, subscribers read it.
+     *
+     * @param sequence a sequence of the event
+     * @return the event
+     */
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) events[(int) sequence & mask];
+    }
+
+    /**
+     * Makes all events up to the given sequence visible to subscribers
+     *
+     * @param sequence a sequence returned by {@link #next()}
+     */
+    public void publish(long sequence) {
+        cursor.set(sequence);
+    }
+
+    /**
+     * Claims the next slot, lets the translator fill the event and publishes it
+     *
+     * @param translator a function that writes data into the event
+     */
+    public void publishEvent(Consumer<? super E> translator) {
+        long sequence = next();
+        translator.accept(get(sequence));
+        publish(sequence);
+    }
+
+    /**
+     * Returns the sequence of the last published event
+     *
+     * @return the producer cursor
+     */
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    /**
+     * Returns the number of events in the ring
+     *
+     * @return ring capacity
+     */
+    public int capacity() {
+        return events.length;
+    }
+
+    private static long minimumSequence(Sequence[] sequences, long defaultValue) {
+        long minimum = defaultValue;
+        for (Sequence sequence : sequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+
+    /**
+     * A reader of a {@link MulticastRingBuffer}, that tracks its own position in the ring
+     *
+     * @param <E> a type of events
+     */
+    public static final class Subscriber<E> {
+
+        private final MulticastRingBuffer<E> ring;
+        private final Sequence[] barrierSequences;
+        private final Sequence sequence;
+
+        private Subscriber(MulticastRingBuffer<E> ring, Sequence[] barrierSequences, long initialSequence) {
+            this.ring = ring;
+            this.barrierSequences = barrierSequences;
+            this.sequence = new Sequence(initialSequence);
+        }
+
+        /**
+         * Passes all events that are available at the moment to the handler. It never waits. The handler should not
+         * keep references to events, since they are reused by the producer.
+         *
+         * @param handler a handler of events
+         * @return the number of processed events
+         */
+        public int poll(Consumer<? super E> handler) {
+            long nextSequence = sequence.get() + 1;
+            long availableSequence = availableSequence();
+
+            return availableSequence < nextSequence ? 0 : process(nextSequence, availableSequence, handler);
+        }
+
+        /**
+         * Waits for at least one event using the wait strategy of the ring, then passes all available events to the
+         * handler. The handler should not keep references to events, since they are reused by the producer.
+         *
+         * @param handler a handler of events
+         * @return the number of processed events
+         * @throws InterruptedException if interrupted while waiting
+         */
+        public int take(Consumer<? super E> handler) throws InterruptedException {
+            long nextSequence = sequence.get() + 1;
+            long availableSequence;
+            int attempts = 0;
+            while ((availableSequence = availableSequence()) < nextSequence) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                ring.waitStrategy.idle(attempts++);
+            }
+
+            return process(nextSequence, availableSequence, handler);
+        }
+
+        /**
+         * Returns the sequence of the last event processed by the subscriber
+         *
+         * @return subscriber sequence
+         */
+        public long getSequence() {
+            return sequence.get();
+        }
+
+        private long availableSequence() {
+            return minimumSequence(barrierSequences, Long.MAX_VALUE);
+        }
+
+        /**
+         * Processes a batch of events and publishes the sequence once. In case the handler throws, the sequence of the
+         * last successfully processed event is published, so the failed event is passed to the handler again.
+         */
+        private int process(long fromSequence, long toSequence, Consumer<? super E> handler) {
+            long currentSequence = fromSequence;
+            try {
+                for (; currentSequence <= toSequence; currentSequence++) {
+                    handler.accept(ring.get(currentSequence));
+                }
+            } finally {
+                sequence.set(currentSequence - 1);
+            }
+
+            return (int) (toSequence - fromSequence + 1);
+        }
+
+    }
+
+}
@@ -0,0 +1,229 @@
+package com.bobocode;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * {@link PairingHeapPriorityQueue} is a priority {@link Queue} that is based on a pairing heap. Instead of FIFO order,
+ * {@link #poll()} always retrieves the smallest element according to the given {@link Comparator}.
+ * <p>
+ * Every node keeps a link to its first child, to its next sibling and to the previous node, which is either its left
+ * sibling or its parent. Method {@link #insert(Object)} returns a {@link Handle} of the added element, that can be
+ * passed to {@link #decreaseKey(Handle, Object)} later. Insertion and decrease of a key take O(1) time, since they only
+ * link two trees together, and {@link #poll()} takes O(log n) amortized time, merging children of the removed root in
+ * two passes. Elements that are equal according to the comparator are retrieved in no particular order. The queue
+ * doesn't accept {@code null} elements.
+ *
+ * @param <T> a generic parameter
+ */
+public class PairingHeapPriorityQueue<T> implements Queue<T> {
+
+    private final Comparator<? super T> comparator;
+    private Handle<T> rootNode;
+    private int size;
+
+    /**
+     * Creates an empty queue
+     *
+     * @param comparator a comparator that defines priority of elements
+     */
+    public PairingHeapPriorityQueue(Comparator<? super T> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    /**
+     * Adds an element to the queue
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        insert(element);
+    }
+
+    /**
+     * Adds an element to the queue and returns its handle, which can be used to decrease the element later
+     *
+     * @param element the element to add
+     * @return a handle of the added element
+     */
+    public Handle<T> insert(T element) {
+        Objects.requireNonNull(element);
+        Handle<T> newNode = new Handle<>(this, element);
+        rootNode = Objects.isNull(rootNode) ? newNode : link(rootNode, newNode);
+        size++;
+
+        return newNode;
+    }
+
+    /**
+     * Replaces an element of the queue with a smaller or equal one. The subtree of the element is cut from its parent
+     * and linked with the root. In case the handle doesn't belong to the queue, or the element was already retrieved,
+     * or the new element is bigger than the current one, it throws {@link IllegalArgumentException}
+     *
+     * @param handle     a handle returned by {@link #insert(Object)}
+     * @param newElement a new element value
+     */
+    public void decreaseKey(Handle<T> handle, T newElement) {
+        Objects.requireNonNull(newElement);
+        if (handle.owner != this) {
+            throw new IllegalArgumentException("Handle doesn't belong to the queue");
+        }
+        if (comparator.compare(newElement, handle.value) > 0) {
+            throw new IllegalArgumentException("New element is bigger than the current one");
+        }
+
+        handle.value = newElement;
+        if (handle == rootNode) {
+            return;
+        }
+
+        if (handle.prev.child == handle) {
+            handle.prev.child = handle.sibling;
+        } else {
+            handle.prev.sibling = handle.sibling;
+        }
+        if (Objects.nonNull(handle.sibling)) {
+            handle.sibling.prev = handle.prev;
+        }
+        handle.prev = null;
+        handle.sibling = null;
+        rootNode = link(rootNode, handle);
+    }
+
+    /**
+     * Retrieves and removes the smallest element of the queue
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        if (Objects.isNull(rootNode)) {
+            return null;
+        }
+
+        Handle<T> removedNode = rootNode;
+        rootNode = mergePairs(removedNode.child);
+        removedNode.owner = null;
+        removedNode.child = null;
+        size--;
+
+        return removedNode.value;
+    }
+
+    /**
+     * Retrieves, but doesn't remove the smallest element of the queue
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    public T peek() {
+        return Objects.isNull(rootNode) ? null : rootNode.value;
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Makes the root with a bigger element the first child of the other one, and returns the other one
+     */
+    private Handle<T> link(Handle<T> first, Handle<T> second) {
+        if (comparator.compare(second.value, first.value) < 0) {
+            Handle<T> swap = first;
+            first = second;
+            second = swap;
+        }
+
+        second.prev = first;
+        second.sibling = first.child;
+        if (Objects.nonNull(first.child)) {
+            first.child.prev = second;
+        }
+        first.child = second;
+
+        return first;
+    }
+
+    /**
+     * Merges a list of siblings into one tree. The first pass links siblings in pairs from left to right, keeping the
+     * results in a stack, the second pass links the results from right to left. Both passes are iterative, so a long
+     * list of siblings doesn't overflow the call stack.
+     */
+    private Handle<T> mergePairs(Handle<T> firstNode) {
+        Handle<T> mergedNodes = null;
+        while (Objects.nonNull(firstNode)) {
+            Handle<T> pairedNode = firstNode.sibling;
+            Handle<T> nextNode = Objects.isNull(pairedNode) ? null : pairedNode.sibling;
+            Handle<T> mergedNode = detach(firstNode);
+            if (Objects.nonNull(pairedNode)) {
+                mergedNode = link(mergedNode, detach(pairedNode));
+            }
+            mergedNode.sibling = mergedNodes;
+            mergedNodes = mergedNode;
+            firstNode = nextNode;
+        }
+
+        Handle<T> resultNode = null;
+        while (Objects.nonNull(mergedNodes)) {
+            Handle<T> nextNode = mergedNodes.sibling;
+            Handle<T> mergedNode = detach(mergedNodes);
+            resultNode = Objects.isNull(resultNode) ? mergedNode : link(resultNode, mergedNode);
+            mergedNodes = nextNode;
+        }
+
+        return resultNode;
+    }
+
+    private static <T> Handle<T> detach(Handle<T> node) {
+        node.prev = null;
+        node.sibling = null;
+        return node;
+    }
+
+    /**
+     * A handle of an element added by {@link #insert(Object)}. It is a heap node itself, so decreasing a key doesn't
+     * require any search.
+     *
+     * @param <T> a generic parameter
+     */
+    public static final class Handle<T> {
+
+        private PairingHeapPriorityQueue<T> owner;
+        private T value;
+        private Handle<T> child;
+        private Handle<T> sibling;
+        private Handle<T> prev;
+
+        private Handle(PairingHeapPriorityQueue<T> owner, T value) {
+            this.owner = owner;
+            this.value = value;
+        }
+
+        /**
+         * Returns the current element value
+         *
+         * @return element value
+         */
+        public T getValue() {
+            return value;
+        }
+
+    }
+
+}
@@ -1,5 +1,9 @@
 package com.bobocode;
 
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Consumer;
+
 /**
  * Queue is a data structure that follows "first in, first out" rule (FIFO). Operations {@link Queue#add(Object)} and
  * {@link Queue#poll()} are performed in constant time O(1)
@@ -32,4 +36,47 @@ public interface Queue<T> {
      * @return {@code true} if the queue is empty, returns {@code false} if it's not
      */
     boolean isEmpty();
+
+    /**
+     * Retrieves and removes up to the given number of elements from the head of the queue, passing them to the
+     * consumer in FIFO order. The default implementation polls elements one by one.
+     *
+     * @param consumer    a consumer of retrieved elements
+     * @param maxElements maximum number of elements to retrieve
+     * @return the number of retrieved elements
+     */
+    default int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        int count = 0;
+        T element;
+        while (count < maxElements && (element = poll()) != null) {
+            consumer.accept(element);
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Retrieves and removes up to the given number of elements from the head of the queue, adding them to the
+     * collection in FIFO order.
+     *
+     * @param collection  a collection to add retrieved elements to
+     * @param maxElements maximum number of elements to retrieve
+     * @return the number of retrieved elements
+     */
+    default int drainTo(Collection<? super T> collection, int maxElements) {
+        Objects.requireNonNull(collection);
+        return drainTo(collection::add, maxElements);
+    }
+
+    /**
+     * Adds all elements to the end of the queue, in the order they are returned by the iterator. The default
+     * implementation adds elements one by one.
+     *
+     * @param elements elements to add
+     */
+    default void addAll(Iterable<? extends T> elements) {
+        elements.forEach(this::add);
+    }
 }
@@ -0,0 +1,72 @@
+package com.bobocode;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * {@link Sequence} is a counter of events, that is written by one thread and read by others. It is used by
+ * {@link MulticastRingBuffer} to track the producer cursor and the progress of every subscriber. The value is
+ * published with a release store and read with an acquire load, and it is surrounded by padding, so sequences of
+ * different threads never share a cache line.
+ */
+public class Sequence extends SequencePadding1 {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Creates a sequence with the given initial value
+     *
+     * @param initialValue initial value
+     */
+    public Sequence(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    /**
+     * Returns the current value with acquire semantics
+     *
+     * @return current value
+     */
+    public long get() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    /**
+     * Publishes a new value with release semantics. Should be called only by the thread that owns the sequence.
+     *
+     * @param value a new value
+     */
+    public void set(long value) {
+        VALUE.setRelease(this, value);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(get());
+    }
+
+}
+
+/**
+ * Padding classes below put the value of {@link Sequence} on its own cache line. Fields of a superclass always precede
+ * fields of a subclass, so the order is guaranteed.
+ */
+abstract class SequencePadding0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SequenceValue extends SequencePadding0 {
+    long value;
+}
+
+abstract class SequencePadding1 extends SequenceValue {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
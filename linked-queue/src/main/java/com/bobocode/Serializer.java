@@ -0,0 +1,25 @@
+package com.bobocode;
+
+/**
+ * {@link Serializer} converts queue elements into bytes and back. It is used by queues that keep elements outside of
+ * the Java heap, e.g. {@link SpillingQueue}.
+ *
+ * @param <T> a generic parameter
+ */
+public interface Serializer<T> {
+    /**
+     * Converts an element into bytes
+     *
+     * @param element element to convert
+     * @return serialized element
+     */
+    byte[] serialize(T element);
+
+    /**
+     * Restores an element from bytes that were returned by {@link #serialize(Object)}
+     *
+     * @param bytes serialized element
+     * @return an element value
+     */
+    T deserialize(byte[] bytes);
+}
@@ -0,0 +1,282 @@
+package com.bobocode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * {@link SpillingQueue} implements FIFO {@link Queue}, that keeps up to a given number of elements in an in-memory
+ * {@link LinkedQueue}, and spills the rest to memory-mapped segment files. Elements are converted into bytes by a
+ * pluggable {@link Serializer}, so the heap holds only the in-memory part and references to segments, no matter how
+ * big the backlog is.
+ * <p>
+ * The in-memory part is always the head of the queue. Once an element is spilled, all following elements are spilled
+ * as well until the spilled part is read back, so FIFO order is preserved. Segments are append-only files of the
+ * same size: a record is an {@code int} length followed by the serialized bytes, and a segment that can't fit the next
+ * record is closed with an end marker. Segments are written and read sequentially. A closed segment file is deleted and
+ * dropped as soon as its last record is read, while the last segment, that is still written, is rewound and reused
+ * once all its records are read.
+ * <p>
+ * The JDK doesn't unmap a {@link MappedByteBuffer} explicitly, the mapping is released when the buffer is garbage
+ * collected. Until then the disk space of a deleted segment file stays allocated, so it is freed only after the next
+ * garbage collection that finds the dropped segment.
+ * <p>
+ * The queue is not thread-safe and doesn't accept {@code null} elements. Method {@link #close()} deletes all segment
+ * files, so spilled elements don't survive the queue. Segment files left in the directory by a queue that wasn't
+ * closed are neither read nor deleted, new segments are numbered after the highest existing one.
+ *
+ * @param <T> a generic parameter
+ */
+public class SpillingQueue<T> implements Queue<T>, Closeable {
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+    private static final int END_OF_SEGMENT = -1;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d+)\\.spill");
+
+    private final Path directory;
+    private final Serializer<T> serializer;
+    private final int memoryCapacity;
+    private final int segmentSize;
+    private final LinkedQueue<T> memoryElements = new LinkedQueue<>();
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long spilledCount;
+    private long nextSegmentId;
+    private boolean closed;
+
+    /**
+     * Creates an empty queue that spills elements to segments of 64 MB
+     *
+     * @param directory      a directory for segment files
+     * @param serializer     a serializer that converts elements into bytes
+     * @param memoryCapacity maximum number of elements kept in memory
+     */
+    public SpillingQueue(Path directory, Serializer<T> serializer, int memoryCapacity) {
+        this(directory, serializer, memoryCapacity, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates an empty queue that spills elements to segments of the given size
+     *
+     * @param directory      a directory for segment files
+     * @param serializer     a serializer that converts elements into bytes
+     * @param memoryCapacity maximum number of elements kept in memory
+     * @param segmentSize    size of a segment file in bytes
+     */
+    public SpillingQueue(Path directory, Serializer<T> serializer, int memoryCapacity, int segmentSize) {
+        this.directory = Objects.requireNonNull(directory);
+        this.serializer = Objects.requireNonNull(serializer);
+        if (memoryCapacity < 0) {
+            throw new IllegalArgumentException("Memory capacity should not be negative: " + memoryCapacity);
+        }
+        if (segmentSize < 2 * Integer.BYTES) {
+            throw new IllegalArgumentException("Segment size is too small: " + segmentSize);
+        }
+        this.memoryCapacity = memoryCapacity;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+            this.nextSegmentId = findLastSegmentId(directory) + 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue. The element is kept in memory if there is free space and nothing is
+     * spilled, otherwise it is appended to the last segment file.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        ensureOpen();
+        if (spilledCount == 0 && memoryElements.size() < memoryCapacity) {
+            memoryElements.add(element);
+        } else {
+            spill(element);
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head. Elements kept in memory are retrieved first, then spilled elements are read
+     * back from segment files in the order they were written.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        ensureOpen();
+        if (!memoryElements.isEmpty()) {
+            return memoryElements.poll();
+        }
+
+        return spilledCount == 0 ? null : readSpilled();
+    }
+
+    /**
+     * Returns a size of the queue. The size is limited by {@link Integer#MAX_VALUE}, use {@link #spilledSize()} to get
+     * the exact number of spilled elements.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, memoryElements.size() + spilledCount);
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return memoryElements.isEmpty() && spilledCount == 0;
+    }
+
+    /**
+     * Returns the number of elements that are stored in segment files
+     *
+     * @return number of spilled elements
+     */
+    public long spilledSize() {
+        return spilledCount;
+    }
+
+    /**
+     * Drops all elements and deletes segment files. The queue can't be used after it is closed.
+     *
+     * @throws IOException if a segment file can't be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        memoryElements.drainTo(element -> { }, Integer.MAX_VALUE);
+        spilledCount = 0;
+        while (!segments.isEmpty()) {
+            Files.deleteIfExists(segments.pollFirst().path);
+        }
+    }
+
+    private void spill(T element) {
+        byte[] bytes = serializer.serialize(element);
+        if (bytes.length > segmentSize - 2 * Integer.BYTES) {
+            throw new IllegalArgumentException("Serialized element doesn't fit into a segment: " + bytes.length);
+        }
+
+        Segment segment = segments.peekLast();
+        if (Objects.isNull(segment) || segment.writeBuffer.remaining() < Integer.BYTES + bytes.length) {
+            if (Objects.nonNull(segment) && segment.writeBuffer.remaining() >= Integer.BYTES) {
+                segment.writeBuffer.putInt(END_OF_SEGMENT);
+            }
+            segment = createSegment();
+            segments.addLast(segment);
+        }
+
+        segment.writeBuffer.putInt(bytes.length).put(bytes);
+        spilledCount++;
+    }
+
+    private T readSpilled() {
+        Segment segment = segments.peekFirst();
+        ByteBuffer readBuffer = segment.readBuffer;
+        byte[] bytes = new byte[readBuffer.getInt()];
+        readBuffer.get(bytes);
+        spilledCount--;
+
+        if (segment == segments.peekLast()) {
+            if (spilledCount == 0) {
+                segment.writeBuffer.clear();
+                readBuffer.clear();
+            }
+        } else if (readBuffer.remaining() < Integer.BYTES
+                || readBuffer.getInt(readBuffer.position()) == END_OF_SEGMENT) {
+            deleteSegment(segments.pollFirst());
+        }
+        return serializer.deserialize(bytes);
+    }
+
+    /**
+     * Creates the next segment file. A file with the same name could be created by another queue in the same
+     * directory after this one was opened, then the id is skipped.
+     */
+    private Segment createSegment() {
+        while (true) {
+            Path path = directory.resolve(String.format("segment-%019d.spill", nextSegmentId++));
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.SPARSE)) {
+                return new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+            } catch (FileAlreadyExistsException e) {
+                // try the next id
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Finds the highest id among segment files in the directory
+     *
+     * @return the highest segment id or {@code -1} if there are no segment files
+     */
+    private static long findLastSegmentId(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> SEGMENT_NAME.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .mapToLong(matcher -> Long.parseLong(matcher.group(1)))
+                    .max()
+                    .orElse(-1);
+        }
+    }
+
+    private static void deleteSegment(Segment segment) {
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Queue is closed");
+        }
+    }
+
+    /**
+     * A segment file mapped into memory. The writer and the reader use separate views of the same mapping, so each of
+     * them keeps its own position.
+     */
+    private static class Segment {
+
+        private final Path path;
+        private final ByteBuffer writeBuffer;
+        private final ByteBuffer readBuffer;
+
+        private Segment(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.writeBuffer = buffer;
+            this.readBuffer = buffer.duplicate();
+        }
+
+    }
+
+}
@@ -0,0 +1,240 @@
+package com.bobocode;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link SpscRingBufferQueue} is a bounded FIFO {@link Queue} for exactly one producer thread and one consumer thread.
+ * Elements are stored in a preallocated array which length is a power of two, so no memory is allocated per element
+ * and a sequence is turned into an array index with a bit mask.
+ * <p>
+ * The producer owns the tail sequence and the consumer owns the head sequence. Each side publishes its sequence with a
+ * release store and reads the other one with an acquire load only when its cached copy says that the queue looks full
+ * (or empty). Both sequences are surrounded by padding, so they never share a cache line and the two threads don't
+ * slow each other down by false sharing. Methods {@link #offer(Object)} and {@link #poll()} are wait-free.
+ * <p>
+ * Calling {@link #add(Object)} or {@link #offer(Object)} from more than one thread, or {@link #poll()} from more than
+ * one thread, breaks the queue. The queue doesn't accept {@code null} elements.
+ * <p>
+ * Batch methods {@link #addAll(Iterable)} and {@link #drainTo(Consumer, int)} publish their sequence with a single
+ * release store for the whole batch.
+ *
+ * @param <T> a generic parameter
+ */
+public class SpscRingBufferQueue<T> extends SpscRingBufferPadding2 implements Queue<T> {
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscRingBufferConsumerFields.class, "head", long.class);
+            TAIL = lookup.findVarHandle(SpscRingBufferProducerFields.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] buffer;
+    private final int mask;
+
+    /**
+     * Creates an empty queue, which capacity is the given one rounded up to the nearest power of two
+     *
+     * @param capacity minimal number of elements the queue can hold
+     */
+    public SpscRingBufferQueue(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity should be between 1 and 2^30: " + capacity);
+        }
+        int roundedCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[roundedCapacity];
+        this.mask = roundedCapacity - 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue. In case the queue is full it throws {@link IllegalStateException}
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is free space. It never blocks. Should be called only from the
+     * producer thread.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        long currentTail = tail;
+        if (currentTail - cachedHead >= buffer.length) {
+            cachedHead = (long) HEAD.getAcquire(this);
+            if (currentTail - cachedHead >= buffer.length) {
+                return false;
+            }
+        }
+
+        buffer[(int) currentTail & mask] = element;
+        TAIL.setRelease(this, currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Retrieves and removes queue head. It never blocks. Should be called only from the consumer thread.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long currentHead = head;
+        if (currentHead >= cachedTail) {
+            cachedTail = (long) TAIL.getAcquire(this);
+            if (currentHead >= cachedTail) {
+                return null;
+            }
+        }
+
+        int index = (int) currentHead & mask;
+        T element = (T) buffer[index];
+        buffer[index] = null;
+        HEAD.setRelease(this, currentHead + 1);
+        return element;
+    }
+
+    /**
+     * Adds all elements to the end of the queue, publishing the tail once after all of them are written. In case the
+     * queue becomes full, elements written so far are published and {@link IllegalStateException} is thrown. Should be
+     * called only from the producer thread.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Iterable<? extends T> elements) {
+        long startTail = tail;
+        long currentTail = startTail;
+        try {
+            for (T element : elements) {
+                Objects.requireNonNull(element);
+                if (currentTail - cachedHead >= buffer.length) {
+                    cachedHead = (long) HEAD.getAcquire(this);
+                    if (currentTail - cachedHead >= buffer.length) {
+                        throw new IllegalStateException("Queue is full");
+                    }
+                }
+                buffer[(int) currentTail & mask] = element;
+                currentTail++;
+            }
+        } finally {
+            if (currentTail != startTail) {
+                TAIL.setRelease(this, currentTail);
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes up to the given number of elements from the head of the queue, passing them to the
+     * consumer in FIFO order. The tail is read once and the head is published once for the whole batch. Should be
+     * called only from the consumer thread.
+     *
+     * @param consumer    a consumer of retrieved elements
+     * @param maxElements maximum number of elements to retrieve
+     * @return the number of retrieved elements
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        long startHead = head;
+        if (startHead + maxElements > cachedTail) {
+            cachedTail = (long) TAIL.getAcquire(this);
+        }
+        long endHead = startHead + Math.max(0, Math.min(maxElements, cachedTail - startHead));
+
+        long currentHead = startHead;
+        try {
+            while (currentHead < endHead) {
+                int index = (int) currentHead & mask;
+                T element = (T) buffer[index];
+                buffer[index] = null;
+                currentHead++;
+                consumer.accept(element);
+            }
+        } finally {
+            if (currentHead != startHead) {
+                HEAD.setRelease(this, currentHead);
+            }
+        }
+
+        return (int) (currentHead - startHead);
+    }
+
+    /**
+     * Returns a size of the queue. The result is approximate while the producer or the consumer is working.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        long currentHead = (long) HEAD.getAcquire(this);
+        long currentTail = (long) TAIL.getAcquire(this);
+
+        return (int) Math.max(0, Math.min(buffer.length, currentTail - currentHead));
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can hold
+     *
+     * @return queue capacity
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+}
+
+/**
+ * Padding classes below make the JVM lay the producer and the consumer fields of {@link SpscRingBufferQueue} out on
+ * different cache lines. Fields of a superclass always precede fields of a subclass, so the order is guaranteed.
+ */
+abstract class SpscRingBufferPadding0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SpscRingBufferProducerFields extends SpscRingBufferPadding0 {
+    long tail;
+    long cachedHead;
+}
+
+abstract class SpscRingBufferPadding1 extends SpscRingBufferProducerFields {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class SpscRingBufferConsumerFields extends SpscRingBufferPadding1 {
+    long head;
+    long cachedTail;
+}
+
+abstract class SpscRingBufferPadding2 extends SpscRingBufferConsumerFields {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
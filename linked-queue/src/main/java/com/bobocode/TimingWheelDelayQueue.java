@@ -0,0 +1,306 @@
+package com.bobocode;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link TimingWheelDelayQueue} is a delay {@link Queue} that is based on a hierarchical timing wheel. An element is
+ * scheduled with a delay by {@link #schedule(Object, long, TimeUnit)}, and {@link #poll()} retrieves only elements
+ * which delay has expired, in the order they expired. Method {@link #add(Object)} adds an element without delay.
+ * <p>
+ * Time is divided into ticks of a fixed duration, and every level of the wheel is an array of {@code wheelSize}
+ * buckets. A bucket of level {@code k} covers {@code wheelSize^k} ticks, so a few levels cover any delay. A timer is
+ * put into the lowest level that can hold its deadline, and buckets are doubly linked lists, so
+ * {@link #schedule(Object, long, TimeUnit)} and {@link Timeout#cancel()} take O(1) time. Time is advanced by
+ * {@link #advance()}, which is also called by {@link #poll()}. On every tick the current bucket of level 0 is expired
+ * into a {@link LinkedQueue} of ready elements, and when lower levels wrap around, the current bucket of a higher level
+ * is cascaded down, i.e. its timers are moved to lower levels. Each timer is cascaded at most once per level.
+ * <p>
+ * Expiration precision is one tick. The clock is injectable, which is useful for tests and simulations. No threads are
+ * created, the queue is driven by its caller. The queue is not thread-safe and doesn't accept {@code null} elements.
+ * Method {@link #size()} counts both ready and pending elements, so a non-empty queue can return {@code null} from
+ * {@link #poll()}.
+ *
+ * @param <T> a generic parameter
+ */
+public class TimingWheelDelayQueue<T> implements Queue<T> {
+
+    private static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int DEFAULT_WHEEL_SIZE = 256;
+
+    private final long tickNanos;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final Timeout<T>[][] wheels;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private final LinkedQueue<T> readyElements = new LinkedQueue<>();
+    private long currentTick;
+    private int pendingCount;
+
+    /**
+     * Creates an empty queue with ticks of 1 ms and 256 buckets per level, that uses {@link System#nanoTime()}
+     */
+    public TimingWheelDelayQueue() {
+        this(DEFAULT_TICK_NANOS, TimeUnit.NANOSECONDS, DEFAULT_WHEEL_SIZE, System::nanoTime);
+    }
+
+    /**
+     * Creates an empty queue
+     *
+     * @param tickDuration duration of one tick
+     * @param unit         a unit of the tick duration
+     * @param wheelSize    number of buckets per level, should be a power of two
+     * @param nanoClock    a clock that returns current time in nanoseconds, like {@link System#nanoTime()}
+     */
+    public TimingWheelDelayQueue(long tickDuration, TimeUnit unit, int wheelSize, LongSupplier nanoClock) {
+        this.tickNanos = unit.toNanos(tickDuration);
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("Tick duration should be positive: " + tickDuration);
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size should be a power of two: " + wheelSize);
+        }
+        this.wheelBits = Integer.numberOfTrailingZeros(wheelSize);
+        this.wheelMask = wheelSize - 1;
+        this.wheels = newWheels((Long.SIZE - 1 + wheelBits - 1) / wheelBits, wheelSize);
+        for (Timeout<T>[] wheel : wheels) {
+            for (int i = 0; i < wheelSize; i++) {
+                wheel[i] = new Timeout<>();
+            }
+        }
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Adds an element that is ready immediately.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        readyElements.add(Objects.requireNonNull(element));
+    }
+
+    /**
+     * Schedules an element to become ready after the given delay, rounded up to a whole number of ticks
+     *
+     * @param element the element to schedule
+     * @param delay   a delay after which the element is ready
+     * @param unit    a unit of the delay
+     * @return a handle that can cancel the timer
+     */
+    public Timeout<T> schedule(T element, long delay, TimeUnit unit) {
+        Objects.requireNonNull(element);
+        long elapsedNanos = nanoClock.getAsLong() - startNanos;
+        long delayNanos = Math.min(Math.max(0, unit.toNanos(delay)), Long.MAX_VALUE - elapsedNanos - tickNanos);
+        long deadlineTick = (elapsedNanos + delayNanos + tickNanos - 1) / tickNanos;
+
+        Timeout<T> timeout = new Timeout<>(this, element, deadlineTick);
+        pendingCount++;
+        place(timeout);
+        return timeout;
+    }
+
+    /**
+     * Advances the wheel to the current time, moving all expired elements to the ready ones
+     *
+     * @return the number of elements that expired
+     */
+    public int advance() {
+        long targetTick = (nanoClock.getAsLong() - startNanos) / tickNanos;
+        int previousPendingCount = pendingCount;
+        while (currentTick < targetTick && pendingCount > 0) {
+            currentTick++;
+            processTick();
+        }
+        currentTick = Math.max(currentTick, targetTick);
+
+        return previousPendingCount - pendingCount;
+    }
+
+    /**
+     * Advances the wheel, then retrieves and removes the element that expired first.
+     *
+     * @return an element that was retrieved from the head or null if no element is ready
+     */
+    @Override
+    public T poll() {
+        advance();
+        return readyElements.poll();
+    }
+
+    /**
+     * Returns the number of ready and pending elements.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return readyElements.size() + pendingCount;
+    }
+
+    /**
+     * Checks if the queue has neither ready nor pending elements.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements which delay has not expired yet
+     *
+     * @return number of pending elements
+     */
+    public int pendingSize() {
+        return pendingCount;
+    }
+
+    /**
+     * Cascades higher levels, which blocks start at the current tick, from the top one down, and then expires the
+     * current bucket of level 0. Higher levels go first, since their timers may move to buckets of lower levels that
+     * are processed on the same tick.
+     */
+    private void processTick() {
+        int level = 0;
+        while (level + 1 < wheels.length && (currentTick & ((1L << (wheelBits * (level + 1))) - 1)) == 0) {
+            level++;
+        }
+        for (; level > 0; level--) {
+            cascade(wheels[level][bucketIndex(currentTick, level)]);
+        }
+
+        Timeout<T> bucket = wheels[0][bucketIndex(currentTick, 0)];
+        for (Timeout<T> timeout = bucket.next; timeout != bucket; ) {
+            Timeout<T> nextTimeout = timeout.next;
+            expire(timeout);
+            timeout = nextTimeout;
+        }
+        bucket.next = bucket;
+        bucket.prev = bucket;
+    }
+
+    private void cascade(Timeout<T> bucket) {
+        Timeout<T> timeout = bucket.next;
+        bucket.next = bucket;
+        bucket.prev = bucket;
+        while (timeout != bucket) {
+            Timeout<T> nextTimeout = timeout.next;
+            place(timeout);
+            timeout = nextTimeout;
+        }
+    }
+
+    /**
+     * Puts a timer into the lowest level that covers its deadline, or expires it if the deadline has come
+     */
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        if (delta <= 0) {
+            expire(timeout);
+            return;
+        }
+
+        int level = 0;
+        while (level + 1 < wheels.length && delta >= 1L << (wheelBits * (level + 1))) {
+            level++;
+        }
+        Timeout<T> bucket = wheels[level][bucketIndex(timeout.deadlineTick, level)];
+        timeout.prev = bucket.prev;
+        timeout.next = bucket;
+        bucket.prev.next = timeout;
+        bucket.prev = timeout;
+    }
+
+    private void expire(Timeout<T> timeout) {
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.owner = null;
+        pendingCount--;
+        readyElements.add(timeout.element);
+    }
+
+    private int bucketIndex(long tick, int level) {
+        return (int) (tick >>> (wheelBits * level)) & wheelMask;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Timeout<T>[][] newWheels(int levels, int wheelSize) {
+        return new Timeout[levels][wheelSize];
+    }
+
+    /**
+     * A handle of a scheduled element. It is a node of a bucket list itself, so cancelling a timer doesn't require
+     * any search.
+     *
+     * @param <T> a generic parameter
+     */
+    public static final class Timeout<T> {
+
+        private TimingWheelDelayQueue<T> owner;
+        private final T element;
+        private final long deadlineTick;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        /**
+         * Creates an empty bucket, i.e. a sentinel node of a circular list
+         */
+        private Timeout() {
+            this.element = null;
+            this.deadlineTick = 0;
+            this.prev = this;
+            this.next = this;
+        }
+
+        private Timeout(TimingWheelDelayQueue<T> owner, T element, long deadlineTick) {
+            this.owner = owner;
+            this.element = element;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Returns the scheduled element
+         *
+         * @return element value
+         */
+        public T getElement() {
+            return element;
+        }
+
+        /**
+         * Checks if the timer is still waiting, i.e. it neither expired nor was cancelled
+         *
+         * @return {@code true} if the timer is pending, {@code false} otherwise
+         */
+        public boolean isPending() {
+            return Objects.nonNull(owner);
+        }
+
+        /**
+         * Removes the timer from its bucket, so the element never becomes ready
+         *
+         * @return {@code true} if the timer was cancelled, {@code false} if it already expired or was cancelled
+         */
+        public boolean cancel() {
+            if (Objects.isNull(owner)) {
+                return false;
+            }
+
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+            owner.pendingCount--;
+            owner = null;
+            return true;
+        }
+
+    }
+
+}
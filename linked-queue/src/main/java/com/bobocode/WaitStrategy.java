@@ -0,0 +1,61 @@
+package com.bobocode;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link WaitStrategy} defines what a thread of {@link MulticastRingBuffer} does while it waits for a sequence, i.e.
+ * a subscriber waits for new events, or the producer waits for free slots. Strategies trade CPU usage for latency:
+ * <ul>
+ * <li>{@link #BUSY_SPIN} never gives the CPU away and has the lowest latency, it needs a dedicated core per thread</li>
+ * <li>{@link #YIELDING} spins for a while and then yields the CPU to other threads</li>
+ * <li>{@link #PARKING} spins, then yields, and then parks the thread for a short time, so an idle thread uses almost
+ * no CPU</li>
+ * </ul>
+ * Since the strategies only poll a sequence, publishing an event never has to wake anybody up.
+ */
+public enum WaitStrategy {
+
+    BUSY_SPIN {
+        @Override
+        void idle(int attempts) {
+            Thread.onSpinWait();
+        }
+    },
+
+    YIELDING {
+        @Override
+        void idle(int attempts) {
+            if (attempts < SPIN_ATTEMPTS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    },
+
+    PARKING {
+        @Override
+        void idle(int attempts) {
+            if (attempts < SPIN_ATTEMPTS) {
+                Thread.onSpinWait();
+            } else if (attempts < SPIN_ATTEMPTS + YIELD_ATTEMPTS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+    };
+
+    private static final int SPIN_ATTEMPTS = 100;
+    private static final int YIELD_ATTEMPTS = 100;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * Waits a bit before the next check of a sequence
+     *
+     * @param attempts number of checks that have already failed
+     */
+    abstract void idle(int attempts);
+
+}
@@ -0,0 +1,148 @@
+package com.bobocode;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * {@link WorkStealingDeque} is a Chase-Lev work-stealing deque. It has exactly one owner thread, that calls
+ * {@link #push(Object)} and {@link #pop()} at the bottom end, so the owner works with its elements in LIFO order, and
+ * any number of thief threads, that call {@link #steal()} at the top end and take the oldest elements.
+ * <p>
+ * Elements are stored in a circular array which length is a power of two. The owner grows the array when it is full,
+ * copying the elements between top and bottom, while thieves may still read the old array, whose slots are never
+ * changed after it is replaced. The owner and thieves compete only for the last element, and the competition is
+ * resolved by a compare-and-set of the top index, so {@link #push(Object)} and {@link #pop()} of the owner are
+ * usually performed without any atomic instruction.
+ * <p>
+ * The deque doesn't implement {@link Queue}, since its ends follow different orders. It doesn't accept {@code null}
+ * elements, and a slot taken by a thief is cleared only when the owner writes another element into it.
+ *
+ * @param <T> a generic parameter
+ */
+public class WorkStealingDeque<T> {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final VarHandle TOP;
+    private static final VarHandle BOTTOM;
+    private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TOP = lookup.findVarHandle(WorkStealingDeque.class, "top", long.class);
+            BOTTOM = lookup.findVarHandle(WorkStealingDeque.class, "bottom", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile long top;
+    private volatile long bottom;
+    private volatile Object[] array = new Object[DEFAULT_CAPACITY];
+
+    /**
+     * Adds an element to the bottom of the deque, growing the array if it is full. Should be called only from the
+     * owner thread.
+     *
+     * @param element the element to add
+     */
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        long currentBottom = (long) BOTTOM.getOpaque(this);
+        long currentTop = top;
+        Object[] currentArray = array;
+        if (currentBottom - currentTop >= currentArray.length) {
+            currentArray = grow(currentArray, currentTop, currentBottom);
+        }
+
+        ELEMENT.setRelease(currentArray, indexOf(currentArray, currentBottom), element);
+        bottom = currentBottom + 1;
+    }
+
+    /**
+     * Retrieves and removes the most recently pushed element. Should be called only from the owner thread.
+     *
+     * @return an element from the bottom or null if the deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        long newBottom = (long) BOTTOM.getOpaque(this) - 1;
+        Object[] currentArray = array;
+        bottom = newBottom;
+        long currentTop = top;
+        if (newBottom < currentTop) {
+            bottom = newBottom + 1;
+            return null;
+        }
+
+        int index = indexOf(currentArray, newBottom);
+        T element = (T) ELEMENT.getAcquire(currentArray, index);
+        if (newBottom > currentTop) {
+            ELEMENT.setRelease(currentArray, index, null);
+            return element;
+        }
+
+        if (TOP.compareAndSet(this, currentTop, currentTop + 1)) {
+            ELEMENT.setRelease(currentArray, index, null);
+        } else {
+            element = null;
+        }
+        bottom = currentTop + 1;
+        return element;
+    }
+
+    /**
+     * Retrieves and removes the oldest element. Can be called from any thread.
+     *
+     * @return an element from the top or null if the deque is empty or another thread took the element first
+     */
+    @SuppressWarnings("unchecked")
+    public T steal() {
+        long currentTop = top;
+        long currentBottom = bottom;
+        if (currentTop >= currentBottom) {
+            return null;
+        }
+
+        Object[] currentArray = array;
+        T element = (T) ELEMENT.getAcquire(currentArray, indexOf(currentArray, currentTop));
+        if (Objects.isNull(element) || !TOP.compareAndSet(this, currentTop, currentTop + 1)) {
+            return null;
+        }
+        return element;
+    }
+
+    /**
+     * Returns a size of the deque. The result is approximate while the deque is concurrently modified.
+     *
+     * @return an integer value that is a size of deque
+     */
+    public int size() {
+        long currentTop = top;
+        return (int) Math.max(0, bottom - currentTop);
+    }
+
+    /**
+     * Checks if the deque is empty. The result is approximate while the deque is concurrently modified.
+     *
+     * @return {@code true} if the deque is empty, returns {@code false} if it's not
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private Object[] grow(Object[] currentArray, long currentTop, long currentBottom) {
+        Object[] newArray = new Object[currentArray.length << 1];
+        for (long i = currentTop; i < currentBottom; i++) {
+            newArray[indexOf(newArray, i)] = currentArray[indexOf(currentArray, i)];
+        }
+        array = newArray;
+        return newArray;
+    }
+
+    private static int indexOf(Object[] array, long sequence) {
+        return (int) sequence & (array.length - 1);
+    }
+
+}
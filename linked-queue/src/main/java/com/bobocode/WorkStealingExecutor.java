@@ -0,0 +1,323 @@
+package com.bobocode;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link WorkStealingExecutor} runs fork/join-style {@link Task}s on a fixed number of worker threads. Every worker
+ * owns a {@link WorkStealingDeque}: subtasks forked by a worker are pushed to the bottom of its own deque and popped
+ * back in LIFO order, so a worker mostly runs the tasks it has just created, and data of those tasks is likely still
+ * in its cache. A worker which deque is empty steals the oldest task from a random other worker. Old tasks are
+ * usually the biggest ones in recursive divide-and-conquer algorithms, so one steal gives a thief a lot of work, and
+ * the workers rarely touch the same end of a deque.
+ * <p>
+ * Tasks submitted from outside of the workers by {@link #invoke(Task)} go to a shared {@link LockFreeQueue}. A worker
+ * waiting in {@link Task#join()} doesn't block, it runs other tasks from its deque or steals them until the joined
+ * task is completed. Idle workers spin for a while and then park for a short time.
+ * <p>
+ * Method {@link #close()} lets workers finish the tasks they are running, and completes all tasks that were not
+ * started yet with {@link CancellationException}, so threads waiting for them are released.
+ */
+public class WorkStealingExecutor implements AutoCloseable {
+
+    private static final int SPINS_BEFORE_PARK = 64;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final Worker[] workers;
+    private final LockFreeQueue<Task<?>> submissions = new LockFreeQueue<>();
+    private final LongAdder stealCount = new LongAdder();
+    private volatile boolean shutdown;
+
+    /**
+     * Creates an executor and starts the given number of worker threads
+     *
+     * @param parallelism number of worker threads
+     */
+    public WorkStealingExecutor(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism should be positive: " + parallelism);
+        }
+        workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(this, i);
+        }
+        for (Worker worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Submits the task to the executor and waits for its result. In case the task completed exceptionally, the
+     * exception is rethrown.
+     *
+     * @param task a task to run
+     * @param <V>  a type of the task result
+     * @return the task result
+     */
+    public <V> V invoke(Task<V> task) {
+        Objects.requireNonNull(task);
+        if (shutdown) {
+            throw new IllegalStateException("Executor is shut down");
+        }
+        task.bindTo(this);
+        Thread thread = Thread.currentThread();
+        if (thread instanceof Worker && ((Worker) thread).executor == this) {
+            task.run();
+            return task.getResult();
+        }
+
+        submissions.add(task);
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker);
+        }
+        if (shutdown) {
+            // the executor was closed concurrently and may have missed the task
+            cancelSubmissions();
+        }
+        return task.join();
+    }
+
+    /**
+     * Returns the number of tasks that were stolen by workers from each other
+     *
+     * @return number of successful steals
+     */
+    public long getStealCount() {
+        return stealCount.sum();
+    }
+
+    /**
+     * Stops worker threads and waits for them to finish the tasks they are running. Tasks that were not started yet
+     * are completed with {@link CancellationException}, which is thrown to threads that join them.
+     */
+    @Override
+    public void close() {
+        shutdown = true;
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker);
+        }
+        for (Worker worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        for (Worker worker : workers) {
+            for (Task<?> task = worker.deque.steal(); Objects.nonNull(task); task = worker.deque.steal()) {
+                task.cancel();
+            }
+        }
+        cancelSubmissions();
+    }
+
+    /**
+     * Completes all tasks of the shared queue with {@link CancellationException}. Every task is polled by one thread
+     * only, so it is never completed twice.
+     */
+    private void cancelSubmissions() {
+        for (Task<?> task = submissions.poll(); Objects.nonNull(task); task = submissions.poll()) {
+            task.cancel();
+        }
+    }
+
+    /**
+     * Steals a task from other workers, starting from a random one
+     */
+    private Task<?> steal(Worker thief) {
+        int start = ThreadLocalRandom.current().nextInt(workers.length);
+        for (int i = 0; i < workers.length; i++) {
+            Worker victim = workers[(start + i) % workers.length];
+            if (victim != thief) {
+                Task<?> task = victim.deque.steal();
+                if (Objects.nonNull(task)) {
+                    stealCount.increment();
+                    return task;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A worker thread that owns its own deque of tasks
+     */
+    private static class Worker extends Thread {
+
+        private final WorkStealingExecutor executor;
+        private final WorkStealingDeque<Task<?>> deque = new WorkStealingDeque<>();
+
+        private Worker(WorkStealingExecutor executor, int index) {
+            super("work-stealing-worker-" + index);
+            this.executor = executor;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            int spins = 0;
+            while (!executor.shutdown) {
+                Task<?> task = deque.pop();
+                if (Objects.isNull(task)) {
+                    task = executor.submissions.poll();
+                }
+                if (Objects.isNull(task)) {
+                    task = executor.steal(this);
+                }
+
+                if (Objects.nonNull(task)) {
+                    task.run();
+                    spins = 0;
+                } else if (++spins < SPINS_BEFORE_PARK) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(executor, PARK_NANOS);
+                }
+            }
+        }
+
+        /**
+         * Runs one task from the own deque or a stolen one, while the worker is waiting for another task
+         */
+        private boolean helpOnce() {
+            Task<?> task = deque.pop();
+            if (Objects.isNull(task)) {
+                task = executor.steal(this);
+            }
+            if (Objects.isNull(task)) {
+                return false;
+            }
+
+            task.run();
+            return true;
+        }
+
+    }
+
+    /**
+     * A task that can split itself into subtasks. Subtasks are started by {@link #fork()} and their results are
+     * retrieved by {@link #join()}, which should be called in reverse order of forks. A task belongs to the executor
+     * it is first invoked on or forked into, and it can't be passed to another executor after that.
+     *
+     * @param <V> a type of the task result
+     */
+    public abstract static class Task<V> {
+
+        private volatile WorkStealingExecutor executor;
+        private volatile boolean done;
+        private volatile Thread waiter;
+        private V result;
+        private Throwable exception;
+
+        /**
+         * Performs the task, forking and joining subtasks when needed
+         *
+         * @return the task result
+         */
+        protected abstract V compute();
+
+        /**
+         * Pushes the task to the deque of the current worker, so the task belongs to the executor of that worker. In
+         * case it is called outside of a worker thread, or the task already belongs to another executor, it throws
+         * {@link IllegalStateException}
+         *
+         * @return this task
+         */
+        public final Task<V> fork() {
+            Thread thread = Thread.currentThread();
+            if (!(thread instanceof Worker)) {
+                throw new IllegalStateException("Task can be forked only by a worker thread");
+            }
+
+            Worker worker = (Worker) thread;
+            bindTo(worker.executor);
+            worker.deque.push(this);
+            return this;
+        }
+
+        /**
+         * Waits for the task to complete and returns its result. A worker thread runs other tasks while it waits,
+         * other threads are parked. In case the task completed exceptionally, the exception is rethrown.
+         *
+         * @return the task result
+         */
+        public final V join() {
+            Thread thread = Thread.currentThread();
+            if (thread instanceof Worker) {
+                Worker worker = (Worker) thread;
+                while (!done) {
+                    if (!worker.helpOnce()) {
+                        Thread.onSpinWait();
+                    }
+                }
+            } else {
+                waiter = thread;
+                while (!done) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                waiter = null;
+            }
+
+            return getResult();
+        }
+
+        /**
+         * Checks if the task is completed, normally or exceptionally
+         *
+         * @return {@code true} if the task is completed, {@code false} otherwise
+         */
+        public final boolean isDone() {
+            return done;
+        }
+
+        private void bindTo(WorkStealingExecutor executor) {
+            if (Objects.isNull(this.executor)) {
+                this.executor = executor;
+            } else if (this.executor != executor) {
+                throw new IllegalStateException("Task belongs to another executor");
+            }
+        }
+
+        private void run() {
+            try {
+                result = compute();
+            } catch (Throwable e) {
+                exception = e;
+            }
+            complete();
+        }
+
+        private void cancel() {
+            exception = new CancellationException("Executor is closed");
+            complete();
+        }
+
+        private void complete() {
+            done = true;
+
+            Thread currentWaiter = waiter;
+            if (Objects.nonNull(currentWaiter)) {
+                LockSupport.unpark(currentWaiter);
+            }
+        }
+
+        private V getResult() {
+            if (exception instanceof RuntimeException) {
+                throw (RuntimeException) exception;
+            } else if (exception instanceof Error) {
+                throw (Error) exception;
+            } else if (Objects.nonNull(exception)) {
+                throw new IllegalStateException(exception);
+            }
+            return result;
+        }
+
+    }
+
+}
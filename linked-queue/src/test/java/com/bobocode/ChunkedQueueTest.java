@@ -0,0 +1,97 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChunkedQueueTest {
+
+    private Queue<Integer> integerQueue = new ChunkedQueue<>(4);
+
+    @Test
+    void testAddAndPollAcrossSegments() {
+        for (int i = 0; i < 10; i++) {
+            integerQueue.add(i);
+        }
+
+        assertEquals(10, integerQueue.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, integerQueue.poll().intValue());
+        }
+        assertNull(integerQueue.poll());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testDrainToAcrossSegments() {
+        for (int i = 0; i < 10; i++) {
+            integerQueue.add(i);
+        }
+        List<Integer> drainedElements = new ArrayList<>();
+
+        assertEquals(3, integerQueue.drainTo(drainedElements, 3));
+        assertEquals(6, integerQueue.drainTo(drainedElements, 6));
+        assertEquals(1, integerQueue.drainTo(drainedElements, 6));
+        assertEquals(0, integerQueue.drainTo(drainedElements, 6));
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), drainedElements);
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testDrainToKeepsQueueConsistentWhenConsumerThrows() {
+        for (int i = 0; i < 6; i++) {
+            integerQueue.add(i);
+        }
+        List<Integer> drainedElements = new ArrayList<>();
+
+        assertThrows(IllegalStateException.class, () -> integerQueue.drainTo(element -> {
+            drainedElements.add(element);
+            if (element == 3) {
+                throw new IllegalStateException();
+            }
+        }, 6));
+
+        assertEquals(List.of(0, 1, 2, 3), drainedElements);
+        assertEquals(2, integerQueue.size());
+        assertEquals(4, integerQueue.poll().intValue());
+        integerQueue.add(6);
+        assertEquals(5, integerQueue.poll().intValue());
+        assertEquals(6, integerQueue.poll().intValue());
+        assertNull(integerQueue.poll());
+    }
+
+    @Test
+    void testAddNullElement() {
+        assertThrows(NullPointerException.class, () -> integerQueue.add(null));
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedQueue<>(0));
+    }
+
+    @Test
+    void testRandomOperationsMatchLinkedQueue() {
+        Queue<Integer> expectedQueue = new LinkedQueue<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            if (random.nextInt(5) < 3) {
+                integerQueue.add(i);
+                expectedQueue.add(i);
+            } else {
+                assertEquals(expectedQueue.poll(), integerQueue.poll());
+            }
+            assertEquals(expectedQueue.size(), integerQueue.size());
+        }
+        while (!expectedQueue.isEmpty()) {
+            assertEquals(expectedQueue.poll(), integerQueue.poll());
+        }
+        assertTrue(integerQueue.isEmpty());
+    }
+
+}
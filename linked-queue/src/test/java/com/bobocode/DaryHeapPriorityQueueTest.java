@@ -0,0 +1,135 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DaryHeapPriorityQueueTest {
+
+    private DaryHeapPriorityQueue<Integer> integerQueue = new DaryHeapPriorityQueue<>(Comparator.naturalOrder());
+
+    @Test
+    void testPollReturnsSmallestElement() {
+        integerQueue.add(5);
+        integerQueue.add(1);
+        integerQueue.add(3);
+
+        assertEquals(3, integerQueue.size());
+        assertEquals(1, integerQueue.peek().intValue());
+        assertEquals(1, integerQueue.poll().intValue());
+        assertEquals(3, integerQueue.poll().intValue());
+        assertEquals(5, integerQueue.poll().intValue());
+        assertNull(integerQueue.poll());
+        assertNull(integerQueue.peek());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testCustomComparator() {
+        integerQueue = new DaryHeapPriorityQueue<>(2, Comparator.reverseOrder());
+        integerQueue.add(5);
+        integerQueue.add(10);
+        integerQueue.add(-1);
+
+        assertEquals(10, integerQueue.poll().intValue());
+        assertEquals(5, integerQueue.poll().intValue());
+        assertEquals(-1, integerQueue.poll().intValue());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DaryHeapPriorityQueue<Integer>(1, Comparator.naturalOrder()));
+        assertThrows(NullPointerException.class, () -> integerQueue.add(null));
+    }
+
+    @Test
+    void testRandomElementsAreRetrievedInOrder() {
+        for (int arity : new int[]{2, 3, 4, 8}) {
+            integerQueue = new DaryHeapPriorityQueue<>(arity, Comparator.naturalOrder());
+            List<Integer> expected = new ArrayList<>();
+            Random random = new Random(arity);
+
+            for (int i = 0; i < 10_000; i++) {
+                int element = random.nextInt(1_000);
+                expected.add(element);
+                integerQueue.add(element);
+                if (random.nextInt(3) == 0) {
+                    Collections.sort(expected);
+                    assertEquals(expected.remove(0), integerQueue.poll());
+                }
+            }
+
+            Collections.sort(expected);
+            for (Integer element : expected) {
+                assertEquals(element, integerQueue.poll());
+            }
+            assertTrue(integerQueue.isEmpty());
+        }
+    }
+
+    /**
+     * Compares d-ary heaps of several arities to {@link PairingHeapPriorityQueue}, filling a queue and draining it, and
+     * keeping its size constant by a poll after every add. Run with
+     * {@code mvn test -Dbenchmark=true -Dtest=DaryHeapPriorityQueueTest}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkAgainstPairingHeap() {
+        Integer[] elements = new Random(42).ints(1_000_000).boxed().toArray(Integer[]::new);
+        for (int arity : new int[]{2, 4, 8}) {
+            report("d-ary heap, d = " + arity, elements,
+                    () -> new DaryHeapPriorityQueue<>(arity, Comparator.naturalOrder()));
+        }
+        report("pairing heap", elements, () -> new PairingHeapPriorityQueue<>(Comparator.naturalOrder()));
+    }
+
+    private static void report(String name, Integer[] elements, Supplier<Queue<Integer>> queueFactory) {
+        measure(elements, queueFactory.get(), queueFactory.get());
+        long[] elapsedNanos = measure(elements, queueFactory.get(), queueFactory.get());
+        System.out.printf("%-18s fill and drain: %,6.1f ns/op, hold at %,d: %,6.1f ns/op%n", name,
+                (double) elapsedNanos[0] / (2 * elements.length), elements.length / 2,
+                (double) elapsedNanos[1] / (2 * elements.length));
+    }
+
+    /**
+     * Adds all elements to the first queue and polls them back, then adds the first half of them to the second queue
+     * and does an add and a poll per each element
+     *
+     * @return elapsed nanos of both workloads
+     */
+    private static long[] measure(Integer[] elements, Queue<Integer> fillAndDrainQueue, Queue<Integer> holdQueue) {
+        long startNanos = System.nanoTime();
+        for (Integer element : elements) {
+            fillAndDrainQueue.add(element);
+        }
+        while (!fillAndDrainQueue.isEmpty()) {
+            fillAndDrainQueue.poll();
+        }
+        long fillAndDrainNanos = System.nanoTime() - startNanos;
+
+        for (int i = 0; i < elements.length / 2; i++) {
+            holdQueue.add(elements[i]);
+        }
+        startNanos = System.nanoTime();
+        for (Integer element : elements) {
+            holdQueue.add(element);
+            holdQueue.poll();
+        }
+        long holdNanos = System.nanoTime() - startNanos;
+
+        return new long[]{fillAndDrainNanos, holdNanos};
+    }
+
+}
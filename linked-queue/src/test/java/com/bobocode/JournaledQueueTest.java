@@ -0,0 +1,261 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JournaledQueueTest {
+
+    private static final Serializer<Integer> INTEGER_SERIALIZER = new Serializer<>() {
+        @Override
+        public byte[] serialize(Integer element) {
+            return ByteBuffer.allocate(Integer.BYTES).putInt(element).array();
+        }
+
+        @Override
+        public Integer deserialize(byte[] bytes) {
+            return ByteBuffer.wrap(bytes).getInt();
+        }
+    };
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAddAndPollElements() throws IOException {
+        try (JournaledQueue<Integer> integerQueue = new JournaledQueue<>(directory, INTEGER_SERIALIZER)) {
+            integerQueue.add(1);
+            integerQueue.add(2);
+
+            assertEquals(2, integerQueue.size());
+            assertEquals(1, integerQueue.poll().intValue());
+            assertEquals(2, integerQueue.poll().intValue());
+            assertNull(integerQueue.poll());
+            assertTrue(integerQueue.isEmpty());
+        }
+    }
+
+    @Test
+    void testElementsSurviveReopening() throws IOException {
+        try (JournaledQueue<Integer> integerQueue = openQueue()) {
+            for (int i = 0; i < 100; i++) {
+                integerQueue.add(i);
+            }
+            for (int i = 0; i < 40; i++) {
+                integerQueue.poll();
+            }
+        }
+
+        try (JournaledQueue<Integer> integerQueue = openQueue()) {
+            assertEquals(60, integerQueue.size());
+            for (int i = 40; i < 100; i++) {
+                assertEquals(i, integerQueue.poll().intValue());
+            }
+            integerQueue.add(100);
+        }
+
+        try (JournaledQueue<Integer> integerQueue = openQueue()) {
+            assertEquals(1, integerQueue.size());
+            assertEquals(100, integerQueue.poll().intValue());
+        }
+    }
+
+    @Test
+    void testTornRecordIsDroppedOnReplay() throws IOException {
+        try (JournaledQueue<Integer> integerQueue = openQueue()) {
+            integerQueue.add(1);
+            integerQueue.add(2);
+        }
+        Path lastSegment = listFiles("journal-").reduce((first, second) -> second).orElseThrow();
+        Files.write(lastSegment, new byte[]{0, 0, 0, 4, 1, 2}, StandardOpenOption.APPEND);
+
+        try (JournaledQueue<Integer> integerQueue = openQueue()) {
+            assertEquals(2, integerQueue.size());
+            integerQueue.add(3);
+        }
+
+        try (JournaledQueue<Integer> integerQueue = openQueue()) {
+            assertEquals(1, integerQueue.poll().intValue());
+            assertEquals(2, integerQueue.poll().intValue());
+            assertEquals(3, integerQueue.poll().intValue());
+            assertNull(integerQueue.poll());
+        }
+    }
+
+    @Test
+    void testConsumedSegmentsAreDeleted() throws IOException {
+        try (JournaledQueue<Integer> integerQueue = openQueue()) {
+            for (int i = 0; i < 100; i++) {
+                integerQueue.add(i);
+            }
+            assertTrue(listFiles("journal-").count() > 10);
+
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, integerQueue.poll().intValue());
+            }
+            integerQueue.sync();
+
+            assertTrue(listFiles("journal-").count() <= 2);
+        }
+    }
+
+    @Test
+    void testOperationsAreCommittedInBackground() throws IOException, InterruptedException {
+        try (JournaledQueue<Integer> integerQueue = new JournaledQueue<>(directory, INTEGER_SERIALIZER, 64,
+                Integer.MAX_VALUE, Duration.ofMillis(10))) {
+            integerQueue.add(1);
+            integerQueue.add(2);
+            integerQueue.poll();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (Files.notExists(directory.resolve("checkpoint")) && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            assertTrue(Files.exists(directory.resolve("checkpoint")));
+        }
+    }
+
+    @Test
+    void testOnlyHeadOfQueueIsKeptInMemory() throws IOException {
+        AtomicInteger deserializedCount = new AtomicInteger();
+        Serializer<Integer> countingSerializer = new Serializer<>() {
+            @Override
+            public byte[] serialize(Integer element) {
+                return INTEGER_SERIALIZER.serialize(element);
+            }
+
+            @Override
+            public Integer deserialize(byte[] bytes) {
+                deserializedCount.incrementAndGet();
+                return INTEGER_SERIALIZER.deserialize(bytes);
+            }
+        };
+        try (JournaledQueue<Integer> integerQueue = new JournaledQueue<>(directory, countingSerializer, 64, 4,
+                Duration.ofSeconds(1), 4)) {
+            for (int i = 0; i < 100; i++) {
+                integerQueue.add(i);
+            }
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i, integerQueue.poll().intValue());
+                integerQueue.add(100 + i);
+            }
+        }
+
+        try (JournaledQueue<Integer> integerQueue = new JournaledQueue<>(directory, countingSerializer, 64, 4,
+                Duration.ofSeconds(1), 4)) {
+            deserializedCount.set(0);
+            assertEquals(100, integerQueue.size());
+            assertEquals(50, integerQueue.poll().intValue());
+            assertEquals(4, deserializedCount.get());
+
+            for (int i = 51; i < 150; i++) {
+                assertEquals(i, integerQueue.poll().intValue());
+            }
+            assertNull(integerQueue.poll());
+            assertEquals(100, deserializedCount.get());
+        }
+    }
+
+    @Test
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new JournaledQueue<>(directory, INTEGER_SERIALIZER, 64, 4, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new JournaledQueue<>(directory, INTEGER_SERIALIZER, 64, 4, Duration.ofSeconds(1), 0));
+    }
+
+    @Test
+    void testClosedQueue() throws IOException {
+        JournaledQueue<Integer> integerQueue = openQueue();
+        integerQueue.close();
+
+        assertThrows(IllegalStateException.class, () -> integerQueue.add(1));
+        assertThrows(IllegalStateException.class, integerQueue::poll);
+    }
+
+    /**
+     * Measures throughput and latency of adds and polls for each durability setting. Run with
+     * {@code mvn test -Dbenchmark=true -Dtest=JournaledQueueTest}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkDurabilitySettings() throws IOException {
+        int operations = 20_000;
+        report("sync every operation", operations / 10, 1, Duration.ofSeconds(1));
+        report("sync every 64 operations", operations, 64, Duration.ofSeconds(1));
+        report("sync every 1 ms", operations, Integer.MAX_VALUE, Duration.ofMillis(1));
+        report("sync every 10 ms", operations, Integer.MAX_VALUE, Duration.ofMillis(10));
+    }
+
+    private void report(String name, int operations, int syncBatchSize, Duration syncInterval) throws IOException {
+        measure(operations, syncBatchSize, syncInterval);
+        long[] addNanos = new long[operations];
+        long[] pollNanos = new long[operations];
+        double elapsedMillis = measure(operations, syncBatchSize, syncInterval, addNanos, pollNanos);
+        Arrays.sort(addNanos);
+        Arrays.sort(pollNanos);
+        System.out.printf("%-26s %,9.0f ops/s, add p50/p99: %,8d/%,9d ns, poll p50/p99: %,8d/%,9d ns%n", name,
+                2 * operations / elapsedMillis * 1_000, addNanos[operations / 2], addNanos[operations * 99 / 100],
+                pollNanos[operations / 2], pollNanos[operations * 99 / 100]);
+    }
+
+    private void measure(int operations, int syncBatchSize, Duration syncInterval) throws IOException {
+        measure(operations, syncBatchSize, syncInterval, new long[operations], new long[operations]);
+    }
+
+    /**
+     * Adds and then polls the given number of elements in a new journal, recording latency of every operation
+     *
+     * @return elapsed time in milliseconds
+     */
+    private double measure(int operations, int syncBatchSize, Duration syncInterval, long[] addNanos,
+                           long[] pollNanos) throws IOException {
+        Path journalDirectory = Files.createTempDirectory(directory, "journal");
+        long startNanos = System.nanoTime();
+        try (JournaledQueue<Integer> integerQueue = new JournaledQueue<>(journalDirectory, INTEGER_SERIALIZER,
+                1 << 20, syncBatchSize, syncInterval)) {
+            for (int i = 0; i < operations; i++) {
+                long operationStartNanos = System.nanoTime();
+                integerQueue.add(i);
+                addNanos[i] = System.nanoTime() - operationStartNanos;
+            }
+            for (int i = 0; i < operations; i++) {
+                long operationStartNanos = System.nanoTime();
+                integerQueue.poll();
+                pollNanos[i] = System.nanoTime() - operationStartNanos;
+            }
+        }
+        return (System.nanoTime() - startNanos) / 1e6;
+    }
+
+    private JournaledQueue<Integer> openQueue() {
+        return new JournaledQueue<>(directory, INTEGER_SERIALIZER, 64, 4, Duration.ofSeconds(1));
+    }
+
+    private Stream<Path> listFiles(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            Path[] matchingFiles = files.filter(file -> file.getFileName().toString().startsWith(prefix))
+                    .sorted()
+                    .toArray(Path[]::new);
+            return Stream.of(matchingFiles);
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LinkedBlockingQueueTest {
+
+    private BlockingQueue<Integer> integerQueue = new LinkedBlockingQueue<>(2);
+
+    @Test
+    void testAddAndPollElements() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+
+        assertEquals(2, integerQueue.size());
+        assertEquals(0, integerQueue.remainingCapacity());
+        assertThrows(IllegalStateException.class, () -> integerQueue.add(3));
+        assertEquals(1, integerQueue.poll().intValue());
+        assertEquals(2, integerQueue.poll().intValue());
+        assertNull(integerQueue.poll());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testAddAllAndDrainTo() {
+        List<Integer> drainedElements = new ArrayList<>();
+        integerQueue.addAll(Arrays.asList(1, 2));
+
+        assertThrows(IllegalStateException.class, () -> integerQueue.addAll(Arrays.asList(3)));
+        assertEquals(2, integerQueue.drainTo(drainedElements, 5));
+        assertEquals(Arrays.asList(1, 2), drainedElements);
+        assertThrows(IllegalStateException.class, () -> integerQueue.addAll(Arrays.asList(3, 4, 5)));
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testConsumerAddsDuringDrainTo() {
+        integerQueue = new LinkedBlockingQueue<>(4);
+        integerQueue.add(1);
+        List<Integer> drainedElements = new ArrayList<>();
+
+        int count = integerQueue.drainTo(element -> {
+            drainedElements.add(element);
+            if (element < 3) {
+                integerQueue.add(element + 1);
+            }
+        }, 10);
+
+        assertEquals(3, count);
+        assertEquals(Arrays.asList(1, 2, 3), drainedElements);
+        assertTrue(integerQueue.isEmpty());
+        assertNull(integerQueue.poll());
+    }
+
+    @Test
+    void testDrainToWakesUpWaitingProducer() throws InterruptedException {
+        integerQueue.addAll(Arrays.asList(1, 2));
+        Thread producer = new Thread(() -> {
+            try {
+                integerQueue.put(3);
+                integerQueue.put(4);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        List<Integer> drainedElements = new ArrayList<>();
+        while (drainedElements.size() < 4) {
+            integerQueue.drainTo(drainedElements, 2);
+        }
+        producer.join(5_000);
+
+        assertFalse(producer.isAlive());
+        assertEquals(Arrays.asList(1, 2, 3, 4), drainedElements);
+    }
+
+    @Test
+    void testDrainToWakesUpWaitingProducerWhenConsumerThrows() throws InterruptedException {
+        integerQueue.addAll(Arrays.asList(1, 2));
+        CountDownLatch producerStarted = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                producerStarted.countDown();
+                integerQueue.put(3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        producerStarted.await();
+        while (producer.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(IllegalStateException.class, () -> integerQueue.drainTo(element -> {
+            throw new IllegalStateException();
+        }, 2));
+        producer.join(5_000);
+
+        assertFalse(producer.isAlive());
+        assertEquals(Arrays.asList(2, 3), Arrays.asList(integerQueue.poll(), integerQueue.poll()));
+    }
+
+    @Test
+    void testTimedOfferAndPollTimeOut() throws InterruptedException {
+        integerQueue.put(1);
+        integerQueue.put(2);
+
+        assertFalse(integerQueue.offer(3, 10, TimeUnit.MILLISECONDS));
+        assertEquals(1, integerQueue.poll(10, TimeUnit.MILLISECONDS).intValue());
+        assertEquals(2, integerQueue.poll(10, TimeUnit.MILLISECONDS).intValue());
+        assertNull(integerQueue.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testPutWaitsForFreeSpace() throws InterruptedException {
+        integerQueue.put(1);
+        integerQueue.put(2);
+        CountDownLatch putDone = new CountDownLatch(1);
+
+        Thread producer = new Thread(() -> {
+            try {
+                integerQueue.put(3);
+                putDone.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertFalse(putDone.await(50, TimeUnit.MILLISECONDS));
+        assertEquals(1, integerQueue.take().intValue());
+        assertTrue(putDone.await(5, TimeUnit.SECONDS));
+        assertEquals(2, integerQueue.take().intValue());
+        assertEquals(3, integerQueue.take().intValue());
+    }
+
+    @Test
+    void testTakeIsInterruptible() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Thread consumer = new Thread(() -> {
+            try {
+                integerQueue.take();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        consumer.start();
+        consumer.interrupt();
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testProducersAndConsumers() throws InterruptedException {
+        int threads = 4;
+        int elementsPerProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(2 * threads);
+        AtomicLong sum = new AtomicLong();
+
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    for (int j = 1; j <= elementsPerProducer; j++) {
+                        integerQueue.put(j);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> {
+                try {
+                    for (int j = 0; j < elementsPerProducer; j++) {
+                        sum.addAndGet(integerQueue.take());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(threads * (long) elementsPerProducer * (elementsPerProducer + 1) / 2, sum.get());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+}
@@ -0,0 +1,255 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LockFreeQueueTest {
+
+    private Queue<Integer> integerQueue = new LockFreeQueue<>();
+
+    @Test
+    void testAddAndPollElements() {
+        integerQueue.add(324);
+        integerQueue.add(23);
+        integerQueue.add(5);
+
+        assertEquals(3, integerQueue.size());
+        assertFalse(integerQueue.isEmpty());
+        assertEquals(324, integerQueue.poll().intValue());
+        assertEquals(23, integerQueue.poll().intValue());
+        assertEquals(5, integerQueue.poll().intValue());
+        assertNull(integerQueue.poll());
+        assertTrue(integerQueue.isEmpty());
+        assertEquals(0, integerQueue.size());
+    }
+
+    @Test
+    void testAddNullElement() {
+        assertThrows(NullPointerException.class, () -> integerQueue.add(null));
+    }
+
+    @Test
+    void testAddAllAndDrainTo() {
+        integerQueue.add(1);
+        integerQueue.addAll(Arrays.asList(2, 3, 4));
+        List<Integer> drainedElements = new ArrayList<>();
+
+        assertEquals(4, integerQueue.size());
+        assertEquals(2, integerQueue.drainTo(drainedElements, 2));
+        assertEquals(2, integerQueue.drainTo(drainedElements, 5));
+        assertEquals(Arrays.asList(1, 2, 3, 4), drainedElements);
+        assertTrue(integerQueue.isEmpty());
+        assertThrows(NullPointerException.class, () -> integerQueue.addAll(Arrays.asList(5, null)));
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testDrainToKeepsUndeliveredElementsWhenConsumerThrows() {
+        integerQueue.addAll(Arrays.asList(0, 1, 2, 3, 4, 5));
+        List<Integer> drainedElements = new ArrayList<>();
+
+        assertThrows(IllegalStateException.class, () -> integerQueue.drainTo(element -> {
+            drainedElements.add(element);
+            if (element == 3) {
+                throw new IllegalStateException();
+            }
+        }, 5));
+
+        assertEquals(Arrays.asList(0, 1, 2, 3), drainedElements);
+        assertEquals(2, integerQueue.size());
+        integerQueue.add(6);
+        assertEquals(5, integerQueue.poll().intValue());
+        assertEquals(4, integerQueue.poll().intValue());
+        assertEquals(6, integerQueue.poll().intValue());
+        assertNull(integerQueue.poll());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testConcurrentBatchProducersAndConsumers() throws InterruptedException {
+        int pairs = 4;
+        int batches = 2_000;
+        int batchSize = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(2 * pairs);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger consumedCount = new AtomicInteger();
+        ConcurrentHashMap<Integer, Boolean> consumedElements = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < pairs; i++) {
+            int producer = i;
+            executor.execute(() -> {
+                awaitQuietly(startLatch);
+                for (int j = 0; j < batches; j++) {
+                    List<Integer> batch = new ArrayList<>();
+                    for (int k = 0; k < batchSize; k++) {
+                        batch.add((producer * batches + j) * batchSize + k);
+                    }
+                    integerQueue.addAll(batch);
+                }
+            });
+            executor.execute(() -> {
+                awaitQuietly(startLatch);
+                while (consumedCount.get() < pairs * batches * batchSize) {
+                    int count = integerQueue.drainTo(element -> consumedElements.put(element, Boolean.TRUE), 7);
+                    consumedCount.addAndGet(count);
+                }
+            });
+        }
+        startLatch.countDown();
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(pairs * batches * batchSize, consumedCount.get());
+        assertEquals(pairs * batches * batchSize, consumedElements.size());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testConcurrentProducersAndConsumers() throws InterruptedException {
+        int pairs = 4;
+        int elementsPerProducer = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(2 * pairs);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger consumedCount = new AtomicInteger();
+        ConcurrentHashMap<Integer, Boolean> consumedElements = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < pairs; i++) {
+            int producer = i;
+            executor.execute(() -> {
+                awaitQuietly(startLatch);
+                for (int j = 0; j < elementsPerProducer; j++) {
+                    integerQueue.add(producer * elementsPerProducer + j);
+                }
+            });
+            executor.execute(() -> {
+                awaitQuietly(startLatch);
+                while (consumedCount.get() < pairs * elementsPerProducer) {
+                    Integer element = integerQueue.poll();
+                    if (element != null) {
+                        consumedElements.put(element, Boolean.TRUE);
+                        consumedCount.incrementAndGet();
+                    }
+                }
+            });
+        }
+        startLatch.countDown();
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(pairs * elementsPerProducer, consumedCount.get());
+        assertEquals(pairs * elementsPerProducer, consumedElements.size());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    /**
+     * Compares {@link LockFreeQueue} to a {@link LinkedQueue} guarded by {@code synchronized} with the given number of
+     * producer/consumer pairs. Run with {@code mvn test -Dbenchmark=true -Dtest=LockFreeQueueTest}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkProducersAndConsumers() throws InterruptedException {
+        int elementsPerProducer = 200_000;
+        for (int pairs : new int[]{1, 2, 4, 8}) {
+            report("synchronized LinkedQueue", pairs, elementsPerProducer, SynchronizedQueue::new);
+            report("LockFreeQueue", pairs, elementsPerProducer, LockFreeQueue::new);
+        }
+    }
+
+    private static void report(String name, int pairs, int elementsPerProducer,
+                               Supplier<Queue<Integer>> queueFactory) throws InterruptedException {
+        measureThroughput(pairs, elementsPerProducer, queueFactory.get());
+        double throughput = measureThroughput(pairs, elementsPerProducer, queueFactory.get());
+        System.out.printf("%-24s pairs: %d, %,.0f elements/ms%n", name, pairs, throughput);
+    }
+
+    /**
+     * Starts producers and consumers at once and waits until all elements are consumed
+     *
+     * @return number of transferred elements per millisecond
+     */
+    private static double measureThroughput(int pairs, int elementsPerProducer, Queue<Integer> queue)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2 * pairs);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger consumedCount = new AtomicInteger();
+        for (int i = 0; i < pairs; i++) {
+            executor.execute(() -> {
+                awaitQuietly(startLatch);
+                for (int j = 0; j < elementsPerProducer; j++) {
+                    queue.add(j);
+                }
+            });
+            executor.execute(() -> {
+                awaitQuietly(startLatch);
+                while (consumedCount.get() < pairs * elementsPerProducer) {
+                    if (queue.poll() != null) {
+                        consumedCount.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        long startNanos = System.nanoTime();
+        startLatch.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        return (double) pairs * elementsPerProducer * TimeUnit.MILLISECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A baseline for the benchmark, {@link LinkedQueue} with every operation guarded by one monitor
+     */
+    private static class SynchronizedQueue<T> implements Queue<T> {
+
+        private final Queue<T> queue = new LinkedQueue<>();
+
+        @Override
+        public synchronized void add(T element) {
+            queue.add(element);
+        }
+
+        @Override
+        public synchronized T poll() {
+            return queue.poll();
+        }
+
+        @Override
+        public synchronized int size() {
+            return queue.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+    }
+
+}
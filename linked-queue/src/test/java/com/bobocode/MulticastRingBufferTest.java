@@ -0,0 +1,159 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MulticastRingBufferTest {
+
+    private final MulticastRingBuffer<LongEvent> ring =
+            new MulticastRingBuffer<>(4, LongEvent::new, WaitStrategy.BUSY_SPIN);
+
+    @Test
+    void testEverySubscriberReadsEveryEvent() {
+        MulticastRingBuffer.Subscriber<LongEvent> firstSubscriber = ring.subscribe();
+        MulticastRingBuffer.Subscriber<LongEvent> secondSubscriber = ring.subscribe();
+        List<Long> firstValues = new ArrayList<>();
+        List<Long> secondValues = new ArrayList<>();
+
+        ring.publishEvent(event -> event.value = 1);
+        ring.publishEvent(event -> event.value = 2);
+
+        assertEquals(2, firstSubscriber.poll(event -> firstValues.add(event.value)));
+        assertEquals(0, firstSubscriber.poll(event -> firstValues.add(event.value)));
+        assertEquals(2, secondSubscriber.poll(event -> secondValues.add(event.value)));
+        assertEquals(List.of(1L, 2L), firstValues);
+        assertEquals(List.of(1L, 2L), secondValues);
+        assertEquals(1, ring.getCursor());
+    }
+
+    @Test
+    void testEventsArePreallocatedAndReused() {
+        LongEvent firstEvent = ring.get(0);
+
+        for (int i = 0; i < 4; i++) {
+            ring.publishEvent(event -> event.value++);
+        }
+        long sequence = ring.next();
+
+        assertEquals(4, sequence);
+        assertSame(firstEvent, ring.get(sequence));
+        assertEquals(1, firstEvent.value);
+    }
+
+    @Test
+    void testDependentSubscriberReadsProcessedEventsOnly() {
+        MulticastRingBuffer.Subscriber<LongEvent> firstStage = ring.subscribe();
+        MulticastRingBuffer.Subscriber<LongEvent> secondStage = ring.subscribe(firstStage);
+        List<Long> results = new ArrayList<>();
+
+        ring.publishEvent(event -> event.value = 10);
+        assertEquals(0, secondStage.poll(event -> results.add(event.result)));
+
+        firstStage.poll(event -> event.result = event.value * 2);
+        assertEquals(1, secondStage.poll(event -> results.add(event.result)));
+        assertEquals(List.of(20L), results);
+    }
+
+    @Test
+    void testFailedEventIsProcessedAgain() {
+        MulticastRingBuffer.Subscriber<LongEvent> subscriber = ring.subscribe();
+        List<Long> values = new ArrayList<>();
+        ring.publishEvent(event -> event.value = 1);
+        ring.publishEvent(event -> event.value = 2);
+
+        assertThrows(IllegalStateException.class, () -> subscriber.poll(event -> {
+            if (event.value == 2) {
+                throw new IllegalStateException();
+            }
+            values.add(event.value);
+        }));
+        assertEquals(0, subscriber.getSequence());
+        assertEquals(1, subscriber.poll(event -> values.add(event.value)));
+        assertEquals(List.of(1L, 2L), values);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        MulticastRingBuffer<LongEvent> otherRing = new MulticastRingBuffer<>(2, LongEvent::new, WaitStrategy.PARKING);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new MulticastRingBuffer<>(3, LongEvent::new, WaitStrategy.YIELDING));
+        assertThrows(IllegalArgumentException.class, () -> ring.subscribe(otherRing.subscribe()));
+    }
+
+    @Test
+    void testPipelineWithEveryWaitStrategy() throws Exception {
+        for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+            assertPipelineProcessesAllEvents(waitStrategy);
+        }
+    }
+
+    private void assertPipelineProcessesAllEvents(WaitStrategy waitStrategy) throws Exception {
+        int eventCount = 20_000;
+        MulticastRingBuffer<LongEvent> pipelineRing = new MulticastRingBuffer<>(1024, LongEvent::new, waitStrategy);
+        MulticastRingBuffer.Subscriber<LongEvent> doubler = pipelineRing.subscribe();
+        MulticastRingBuffer.Subscriber<LongEvent> observer = pipelineRing.subscribe();
+        MulticastRingBuffer.Subscriber<LongEvent> summer = pipelineRing.subscribe(doubler);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        AtomicBoolean orderBroken = new AtomicBoolean();
+
+        Future<?> doublerResult = executor.submit(() -> {
+            consume(doubler, eventCount, event -> event.result = event.value * 2);
+            return null;
+        });
+        Future<Long> observerResult = executor.submit(() -> {
+            long[] previousValue = {-1};
+            consume(observer, eventCount, event -> {
+                if (event.value != previousValue[0] + 1) {
+                    orderBroken.set(true);
+                }
+                previousValue[0] = event.value;
+            });
+            return previousValue[0];
+        });
+        Future<Long> summerResult = executor.submit(() -> {
+            long[] sum = {0};
+            consume(summer, eventCount, event -> sum[0] += event.result);
+            return sum[0];
+        });
+        for (long i = 0; i < eventCount; i++) {
+            long value = i;
+            pipelineRing.publishEvent(event -> event.value = value);
+        }
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        doublerResult.get();
+        assertEquals(eventCount - 1, observerResult.get().longValue());
+        assertFalse(orderBroken.get());
+        assertEquals((long) eventCount * (eventCount - 1), summerResult.get().longValue());
+    }
+
+    private static void consume(MulticastRingBuffer.Subscriber<LongEvent> subscriber, int eventCount,
+                                Consumer<LongEvent> handler) throws InterruptedException {
+        int processedCount = 0;
+        while (processedCount < eventCount) {
+            processedCount += subscriber.take(handler);
+        }
+    }
+
+    private static class LongEvent {
+        long value;
+        long result;
+    }
+
+}
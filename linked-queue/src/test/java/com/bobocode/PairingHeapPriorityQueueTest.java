@@ -0,0 +1,107 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PairingHeapPriorityQueueTest {
+
+    private PairingHeapPriorityQueue<Integer> integerQueue = new PairingHeapPriorityQueue<>(Comparator.naturalOrder());
+
+    @Test
+    void testPollReturnsSmallestElement() {
+        integerQueue.add(5);
+        integerQueue.add(1);
+        integerQueue.add(3);
+
+        assertEquals(3, integerQueue.size());
+        assertEquals(1, integerQueue.peek().intValue());
+        assertEquals(1, integerQueue.poll().intValue());
+        assertEquals(3, integerQueue.poll().intValue());
+        assertEquals(5, integerQueue.poll().intValue());
+        assertNull(integerQueue.poll());
+        assertNull(integerQueue.peek());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testDecreaseKey() {
+        integerQueue.add(10);
+        PairingHeapPriorityQueue.Handle<Integer> handle = integerQueue.insert(20);
+        integerQueue.add(30);
+        integerQueue.poll();
+
+        integerQueue.decreaseKey(handle, 5);
+        integerQueue.add(7);
+
+        assertEquals(5, handle.getValue().intValue());
+        assertEquals(5, integerQueue.poll().intValue());
+        assertEquals(7, integerQueue.poll().intValue());
+        assertEquals(30, integerQueue.poll().intValue());
+    }
+
+    @Test
+    void testInvalidDecreaseKey() {
+        PairingHeapPriorityQueue.Handle<Integer> handle = integerQueue.insert(10);
+        PairingHeapPriorityQueue.Handle<Integer> foreignHandle =
+                new PairingHeapPriorityQueue<Integer>(Comparator.naturalOrder()).insert(10);
+
+        assertThrows(IllegalArgumentException.class, () -> integerQueue.decreaseKey(handle, 11));
+        assertThrows(IllegalArgumentException.class, () -> integerQueue.decreaseKey(foreignHandle, 1));
+        integerQueue.poll();
+        assertThrows(IllegalArgumentException.class, () -> integerQueue.decreaseKey(handle, 1));
+    }
+
+    /**
+     * Every element keeps its insertion number in the lower digits, so all elements are unique and a retrieved element
+     * identifies its handle
+     */
+    @Test
+    void testRandomOperationsMatchList() {
+        List<PairingHeapPriorityQueue.Handle<Integer>> handles = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int element = random.nextInt(1_000) * 100_000 + i;
+                handles.add(integerQueue.insert(element));
+                expected.add(element);
+            } else if (operation == 2) {
+                int index = random.nextInt(handles.size());
+                PairingHeapPriorityQueue.Handle<Integer> handle = handles.get(index);
+                int newElement = handle.getValue() - random.nextInt(10) * 100_000;
+                integerQueue.decreaseKey(handle, newElement);
+                expected.set(index, newElement);
+            } else {
+                Integer smallest = integerQueue.poll();
+                int index = indexOfSmallest(expected);
+                assertEquals(expected.get(index), smallest);
+                handles.remove(index);
+                expected.remove(index);
+            }
+        }
+
+        assertEquals(expected.size(), integerQueue.size());
+    }
+
+    private static int indexOfSmallest(List<Integer> elements) {
+        int smallestIndex = 0;
+        for (int i = 1; i < elements.size(); i++) {
+            if (elements.get(i) < elements.get(smallestIndex)) {
+                smallestIndex = i;
+            }
+        }
+        return smallestIndex;
+    }
+
+}
@@ -1,9 +1,17 @@
 package com.bobocode;
 
+import com.sun.management.ThreadMXBean;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -103,4 +111,116 @@ public class QueueTest {
         assertEquals(0, integerQueue.size());
     }
 
+    @Test
+    @Order(9)
+    void testPooledQueueKeepsFifoOrder() {
+        integerQueue = new LinkedQueue<>(4);
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10; i++) {
+                integerQueue.add(round * 10 + i);
+            }
+            for (int i = 0; i < 10; i++) {
+                assertEquals(round * 10 + i, integerQueue.poll().intValue());
+            }
+        }
+
+        assertTrue(integerQueue.isEmpty());
+        assertNull(integerQueue.poll());
+    }
+
+    @Test
+    @Order(10)
+    void testAddAllAndDrainTo() {
+        integerQueue.add(1);
+        integerQueue.addAll(Arrays.asList(2, 3, 4, 5));
+        List<Integer> drainedElements = new ArrayList<>();
+
+        assertEquals(5, integerQueue.size());
+        assertEquals(3, integerQueue.drainTo(drainedElements, 3));
+        assertEquals(Arrays.asList(1, 2, 3), drainedElements);
+        assertEquals(2, integerQueue.size());
+        assertEquals(2, integerQueue.drainTo(drainedElements, 10));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), drainedElements);
+        assertTrue(integerQueue.isEmpty());
+        assertEquals(0, integerQueue.drainTo(drainedElements, 10));
+    }
+
+    @Test
+    @Order(11)
+    void testAddAfterDrainTo() {
+        integerQueue = new LinkedQueue<>(4);
+        integerQueue.addAll(Arrays.asList(1, 2, 3));
+        integerQueue.drainTo(element -> { }, 3);
+
+        integerQueue.addAll(Arrays.asList(4, 5));
+        integerQueue.add(6);
+
+        assertEquals(3, integerQueue.size());
+        assertEquals(4, integerQueue.poll().intValue());
+        assertEquals(5, integerQueue.poll().intValue());
+        assertEquals(6, integerQueue.poll().intValue());
+        assertNull(integerQueue.poll());
+    }
+
+    /**
+     * Measures allocated bytes and time per add/poll pair with and without the node pool. Run with
+     * {@code mvn test -Dbenchmark=true -Dtest=QueueTest}.
+     */
+    @Test
+    @Order(12)
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkNodePoolChurn() {
+        int operations = 5_000_000;
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int nodePoolCapacity : new int[]{0, 64}) {
+            LinkedQueue<Integer> queue = new LinkedQueue<>(nodePoolCapacity);
+            queue.addAll(Collections.nCopies(32, 1));
+            churn(queue, operations);
+
+            long allocatedBytes = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            long startNanos = System.nanoTime();
+            churn(queue, operations);
+            long elapsedNanos = System.nanoTime() - startNanos;
+            allocatedBytes = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBytes;
+
+            System.out.printf("LinkedQueue node pool capacity: %d, %.2f bytes/op, %,.0f ops/ms%n", nodePoolCapacity,
+                    (double) allocatedBytes / operations, operations * 1e6 / elapsedNanos);
+        }
+    }
+
+    @Test
+    @Order(13)
+    void testConsumerAddsDuringDrainTo() {
+        for (int nodePoolCapacity : new int[]{0, 4}) {
+            Queue<Integer> workList = new LinkedQueue<>(nodePoolCapacity);
+            workList.add(1);
+            List<Integer> drainedElements = new ArrayList<>();
+
+            int count = workList.drainTo(element -> {
+                drainedElements.add(element);
+                if (element < 4) {
+                    workList.add(element + 1);
+                }
+            }, 10);
+
+            assertEquals(4, count);
+            assertEquals(Arrays.asList(1, 2, 3, 4), drainedElements);
+            assertTrue(workList.isEmpty());
+            assertNull(workList.poll());
+
+            workList.add(5);
+            workList.drainTo(element -> workList.add(element * 10), 1);
+            assertEquals(1, workList.size());
+            assertEquals(50, workList.poll().intValue());
+        }
+    }
+
+    private static void churn(LinkedQueue<Integer> queue, int operations) {
+        for (int i = 0; i < operations; i++) {
+            queue.add(1);
+            queue.poll();
+        }
+    }
+
 }
@@ -0,0 +1,158 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpillingQueueTest {
+
+    private static final Serializer<String> STRING_SERIALIZER = new Serializer<>() {
+        @Override
+        public byte[] serialize(String element) {
+            return element.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String deserialize(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    @TempDir
+    Path directory;
+
+    private SpillingQueue<String> stringQueue;
+
+    @AfterEach
+    void closeQueue() throws IOException {
+        stringQueue.close();
+    }
+
+    @Test
+    void testElementsAreSpilledWhenMemoryIsFull() {
+        stringQueue = new SpillingQueue<>(directory, STRING_SERIALIZER, 2, 64);
+
+        stringQueue.add("first");
+        stringQueue.add("second");
+        stringQueue.add("third");
+        stringQueue.add("fourth");
+
+        assertEquals(4, stringQueue.size());
+        assertEquals(2, stringQueue.spilledSize());
+        assertEquals("first", stringQueue.poll());
+        assertEquals("second", stringQueue.poll());
+        assertEquals("third", stringQueue.poll());
+        assertEquals("fourth", stringQueue.poll());
+        assertNull(stringQueue.poll());
+        assertTrue(stringQueue.isEmpty());
+    }
+
+    @Test
+    void testFifoOrderIsKeptWhileSpilledElementsRemain() {
+        stringQueue = new SpillingQueue<>(directory, STRING_SERIALIZER, 2, 64);
+
+        for (int i = 0; i < 5; i++) {
+            stringQueue.add("element-" + i);
+        }
+        assertEquals("element-0", stringQueue.poll());
+        stringQueue.add("element-5");
+
+        assertEquals(4, stringQueue.spilledSize());
+        for (int i = 1; i < 6; i++) {
+            assertEquals("element-" + i, stringQueue.poll());
+        }
+        assertTrue(stringQueue.isEmpty());
+    }
+
+    @Test
+    void testConsumedSegmentsAreDeleted() throws IOException {
+        stringQueue = new SpillingQueue<>(directory, STRING_SERIALIZER, 0, 64);
+
+        for (int i = 0; i < 1_000; i++) {
+            stringQueue.add("element-" + i);
+        }
+        long segmentFiles = countSegmentFiles();
+        assertTrue(segmentFiles > 100);
+        for (int i = 0; i < 500; i++) {
+            assertEquals("element-" + i, stringQueue.poll());
+        }
+        assertTrue(countSegmentFiles() <= segmentFiles / 2 + 1);
+        for (int i = 500; i < 1_000; i++) {
+            assertEquals("element-" + i, stringQueue.poll());
+        }
+
+        assertEquals(1, countSegmentFiles());
+        stringQueue.close();
+        assertEquals(0, countSegmentFiles());
+    }
+
+    @Test
+    void testLastSegmentIsReusedOnceRead() throws IOException {
+        stringQueue = new SpillingQueue<>(directory, STRING_SERIALIZER, 0, 64);
+
+        for (int i = 0; i < 1_000; i++) {
+            stringQueue.add("element-" + i);
+            assertEquals("element-" + i, stringQueue.poll());
+        }
+
+        assertEquals(1, countSegmentFiles());
+        assertTrue(stringQueue.isEmpty());
+    }
+
+    @Test
+    void testReopenDirectoryWithLeftoverSegments() throws IOException {
+        SpillingQueue<String> abandonedQueue = new SpillingQueue<>(directory, STRING_SERIALIZER, 0, 64);
+        for (int i = 0; i < 10; i++) {
+            abandonedQueue.add("leftover-" + i);
+        }
+        long leftoverFiles = countSegmentFiles();
+        Files.createFile(directory.resolve("segment-9999999999999999999.spill.tmp"));
+
+        stringQueue = new SpillingQueue<>(directory, STRING_SERIALIZER, 0, 64);
+        for (int i = 0; i < 10; i++) {
+            stringQueue.add("element-" + i);
+        }
+
+        assertTrue(countSegmentFiles() > leftoverFiles + 1);
+        for (int i = 0; i < 10; i++) {
+            assertEquals("element-" + i, stringQueue.poll());
+        }
+        assertTrue(stringQueue.isEmpty());
+        abandonedQueue.close();
+    }
+
+    @Test
+    void testInvalidElements() {
+        stringQueue = new SpillingQueue<>(directory, STRING_SERIALIZER, 0, 16);
+
+        assertThrows(NullPointerException.class, () -> stringQueue.add(null));
+        assertThrows(IllegalArgumentException.class, () -> stringQueue.add("too long to fit into a segment"));
+    }
+
+    @Test
+    void testClosedQueue() throws IOException {
+        stringQueue = new SpillingQueue<>(directory, STRING_SERIALIZER, 1);
+        stringQueue.close();
+
+        assertThrows(IllegalStateException.class, () -> stringQueue.add("element"));
+        assertThrows(IllegalStateException.class, () -> stringQueue.poll());
+    }
+
+    private long countSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpscRingBufferQueueTest {
+
+    private SpscRingBufferQueue<Integer> integerQueue = new SpscRingBufferQueue<>(4);
+
+    @Test
+    void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(4, integerQueue.capacity());
+        assertEquals(8, new SpscRingBufferQueue<>(5).capacity());
+        assertEquals(1, new SpscRingBufferQueue<>(1).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new SpscRingBufferQueue<>(0));
+    }
+
+    @Test
+    void testAddAndPollElements() {
+        integerQueue.add(324);
+        integerQueue.add(23);
+
+        assertEquals(2, integerQueue.size());
+        assertEquals(324, integerQueue.poll().intValue());
+        assertEquals(23, integerQueue.poll().intValue());
+        assertNull(integerQueue.poll());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testOfferOnFullQueue() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(integerQueue.offer(i));
+        }
+
+        assertFalse(integerQueue.offer(4));
+        assertThrows(IllegalStateException.class, () -> integerQueue.add(4));
+        assertEquals(0, integerQueue.poll().intValue());
+        assertTrue(integerQueue.offer(4));
+        assertEquals(4, integerQueue.size());
+    }
+
+    @Test
+    void testAddAllAndDrainTo() {
+        List<Integer> drainedElements = new ArrayList<>();
+        integerQueue.addAll(Arrays.asList(1, 2, 3));
+
+        assertEquals(2, integerQueue.drainTo(drainedElements, 2));
+        integerQueue.addAll(Arrays.asList(4, 5, 6));
+
+        assertEquals(4, integerQueue.size());
+        assertEquals(4, integerQueue.drainTo(drainedElements, 10));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), drainedElements);
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testAddAllOnFullQueuePublishesWrittenElements() {
+        assertThrows(IllegalStateException.class, () -> integerQueue.addAll(Arrays.asList(1, 2, 3, 4, 5)));
+
+        assertEquals(4, integerQueue.size());
+        assertEquals(1, integerQueue.poll().intValue());
+    }
+
+    @Test
+    void testWrapsAroundTheBuffer() {
+        for (int i = 0; i < 100; i++) {
+            integerQueue.add(i);
+            integerQueue.add(-i);
+            assertEquals(i, integerQueue.poll().intValue());
+            assertEquals(-i, integerQueue.poll().intValue());
+        }
+
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testProducerAndConsumerThreads() throws InterruptedException {
+        SpscRingBufferQueue<Integer> queue = new SpscRingBufferQueue<>(1024);
+        int elements = 1_000_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < elements; i++) {
+                while (!queue.offer(i)) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        int[] mismatches = new int[1];
+        Thread consumer = new Thread(() -> {
+            for (int i = 0; i < elements; i++) {
+                Integer element;
+                while ((element = queue.poll()) == null) {
+                    Thread.onSpinWait();
+                }
+                if (element != i) {
+                    mismatches[0]++;
+                }
+            }
+        });
+
+        producer.start();
+        consumer.start();
+        producer.join(30_000);
+        consumer.join(30_000);
+
+        assertFalse(producer.isAlive());
+        assertFalse(consumer.isAlive());
+        assertEquals(0, mismatches[0]);
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Measures throughput of one producer/consumer pair, with the consumer polling elements one by one or draining
+     * them in batches. Waiting threads yield, so the benchmark also completes on a single core. Run with
+     * {@code mvn test -Dbenchmark=true -Dtest=SpscRingBufferQueueTest}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkProducerAndConsumer() throws InterruptedException {
+        int elements = 50_000_000;
+        for (int capacity : new int[]{1024, 64 * 1024}) {
+            report("poll", capacity, elements, queue -> {
+                for (int i = 0; i < elements; i++) {
+                    while (Objects.isNull(queue.poll())) {
+                        Thread.yield();
+                    }
+                }
+            });
+            report("drainTo by 256", capacity, elements, queue -> {
+                int[] count = new int[1];
+                while (count[0] < elements) {
+                    if (queue.drainTo(element -> count[0]++, 256) == 0) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+    }
+
+    private static void report(String name, int capacity, int elements,
+                               Consumer<SpscRingBufferQueue<Integer>> consumer) throws InterruptedException {
+        measureThroughput(capacity, elements, consumer);
+        double throughput = measureThroughput(capacity, elements, consumer);
+        System.out.printf("%-14s capacity: %,6d, %,.1fM ops/s%n", name, capacity, throughput);
+    }
+
+    /**
+     * Runs a producer that offers boxed values cached in advance, so allocation is not measured, and the given
+     * consumer in another thread
+     *
+     * @return number of transferred elements per second, in millions
+     */
+    private static double measureThroughput(int capacity, int elements,
+                                            Consumer<SpscRingBufferQueue<Integer>> consumer)
+            throws InterruptedException {
+        SpscRingBufferQueue<Integer> queue = new SpscRingBufferQueue<>(capacity);
+        Integer[] values = new Integer[1024];
+        Arrays.setAll(values, Integer::valueOf);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < elements; i++) {
+                while (!queue.offer(values[i & (values.length - 1)])) {
+                    Thread.yield();
+                }
+            }
+        });
+        Thread consumerThread = new Thread(() -> consumer.accept(queue));
+
+        long startNanos = System.nanoTime();
+        producer.start();
+        consumerThread.start();
+        producer.join();
+        consumerThread.join();
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        assertTrue(queue.isEmpty());
+        return elements * 1e3 / elapsedNanos;
+    }
+
+}
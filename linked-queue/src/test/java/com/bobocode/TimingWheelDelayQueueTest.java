@@ -0,0 +1,116 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelDelayQueueTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final TimingWheelDelayQueue<Integer> integerQueue =
+            new TimingWheelDelayQueue<>(1, TimeUnit.MILLISECONDS, 8, clock::get);
+
+    @Test
+    void testElementsBecomeReadyAfterDelay() {
+        integerQueue.schedule(2, 20, TimeUnit.MILLISECONDS);
+        integerQueue.schedule(1, 10, TimeUnit.MILLISECONDS);
+        integerQueue.add(0);
+
+        assertEquals(3, integerQueue.size());
+        assertEquals(0, integerQueue.poll().intValue());
+        assertNull(integerQueue.poll());
+
+        advanceClock(10);
+        assertEquals(1, integerQueue.poll().intValue());
+        assertNull(integerQueue.poll());
+
+        advanceClock(9);
+        assertNull(integerQueue.poll());
+        advanceClock(1);
+        assertEquals(2, integerQueue.poll().intValue());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testCancel() {
+        TimingWheelDelayQueue.Timeout<Integer> cancelledTimeout = integerQueue.schedule(1, 5, TimeUnit.MILLISECONDS);
+        TimingWheelDelayQueue.Timeout<Integer> expiredTimeout = integerQueue.schedule(2, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(cancelledTimeout.cancel());
+        assertFalse(cancelledTimeout.cancel());
+        assertEquals(1, integerQueue.pendingSize());
+
+        advanceClock(5);
+        assertEquals(2, integerQueue.poll().intValue());
+        assertNull(integerQueue.poll());
+        assertFalse(expiredTimeout.isPending());
+        assertFalse(expiredTimeout.cancel());
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testLongDelaysAreCascaded() {
+        integerQueue.schedule(1, 1_000, TimeUnit.MILLISECONDS);
+        integerQueue.schedule(2, 100_000, TimeUnit.MILLISECONDS);
+
+        advanceClock(999);
+        assertNull(integerQueue.poll());
+        advanceClock(1);
+        assertEquals(1, integerQueue.poll().intValue());
+
+        advanceClock(98_999);
+        assertNull(integerQueue.poll());
+        advanceClock(1);
+        assertEquals(2, integerQueue.poll().intValue());
+    }
+
+    @Test
+    void testRandomDelaysExpireOnTime() {
+        Random random = new Random(42);
+        List<TimingWheelDelayQueue.Timeout<Integer>> timeouts = new ArrayList<>();
+        int cancelledCount = 0;
+        int expiredCount = 0;
+
+        for (int now = 0; now < 20_000; now++) {
+            for (Integer deadline = integerQueue.poll(); deadline != null; deadline = integerQueue.poll()) {
+                assertEquals(now, deadline.intValue());
+                expiredCount++;
+            }
+            if (now < 10_000) {
+                int delay = 1 + random.nextInt(5_000);
+                timeouts.add(integerQueue.schedule(now + delay, delay, TimeUnit.MILLISECONDS));
+                if (timeouts.get(random.nextInt(timeouts.size())).cancel()) {
+                    cancelledCount++;
+                }
+            }
+            advanceClock(1);
+        }
+
+        assertEquals(timeouts.size(), expiredCount + cancelledCount);
+        assertTrue(integerQueue.isEmpty());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimingWheelDelayQueue<>(1, TimeUnit.SECONDS, 6, clock::get));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimingWheelDelayQueue<>(0, TimeUnit.SECONDS, 8, clock::get));
+        assertThrows(NullPointerException.class, () -> integerQueue.schedule(null, 1, TimeUnit.SECONDS));
+    }
+
+    private void advanceClock(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingDequeTest {
+
+    private WorkStealingDeque<Integer> deque = new WorkStealingDeque<>();
+
+    @Test
+    void testOwnerPopsInLifoOrderAndThiefStealsInFifoOrder() {
+        deque.push(1);
+        deque.push(2);
+        deque.push(3);
+
+        assertEquals(3, deque.size());
+        assertEquals(3, deque.pop().intValue());
+        assertEquals(1, deque.steal().intValue());
+        assertEquals(2, deque.pop().intValue());
+        assertNull(deque.pop());
+        assertNull(deque.steal());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    void testDequeGrows() {
+        for (int i = 0; i < 1_000; i++) {
+            deque.push(i);
+        }
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, deque.steal().intValue());
+        }
+        for (int i = 999; i >= 500; i--) {
+            assertEquals(i, deque.pop().intValue());
+        }
+
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    void testPushNullElement() {
+        assertThrows(NullPointerException.class, () -> deque.push(null));
+    }
+
+    @Test
+    void testOwnerAndThievesTakeEveryElementOnce() throws InterruptedException {
+        int thieves = 3;
+        int elements = 200_000;
+        ExecutorService executor = Executors.newFixedThreadPool(thieves + 1);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicBoolean ownerFinished = new AtomicBoolean();
+        AtomicInteger takenCount = new AtomicInteger();
+        ConcurrentHashMap<Integer, Boolean> takenElements = new ConcurrentHashMap<>();
+
+        executor.execute(() -> {
+            awaitQuietly(startLatch);
+            for (int i = 0; i < elements; i++) {
+                deque.push(i);
+                if (i % 3 == 0) {
+                    take(deque.pop(), takenCount, takenElements);
+                }
+            }
+            for (Integer element = deque.pop(); element != null; element = deque.pop()) {
+                take(element, takenCount, takenElements);
+            }
+            ownerFinished.set(true);
+        });
+        for (int i = 0; i < thieves; i++) {
+            executor.execute(() -> {
+                awaitQuietly(startLatch);
+                while (!ownerFinished.get()) {
+                    take(deque.steal(), takenCount, takenElements);
+                }
+            });
+        }
+        startLatch.countDown();
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(elements, takenCount.get());
+        assertEquals(elements, takenElements.size());
+        assertTrue(deque.isEmpty());
+    }
+
+    private static void take(Integer element, AtomicInteger takenCount, ConcurrentHashMap<Integer, Boolean> taken) {
+        if (element != null) {
+            taken.put(element, Boolean.TRUE);
+            takenCount.incrementAndGet();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
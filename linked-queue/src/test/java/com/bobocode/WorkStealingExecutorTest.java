@@ -0,0 +1,392 @@
+package com.bobocode;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingExecutorTest {
+
+    private final WorkStealingExecutor executor = new WorkStealingExecutor(4);
+
+    @AfterEach
+    void closeExecutor() {
+        executor.close();
+    }
+
+    @Test
+    void testRecursiveSum() {
+        long[] numbers = LongStream.range(0, 1_000_000).toArray();
+
+        long sum = executor.invoke(new SumTask(numbers, 0, numbers.length));
+
+        assertEquals(LongStream.range(0, 1_000_000).sum(), sum);
+    }
+
+    @Test
+    void testRecursiveFibonacci() {
+        assertEquals(6765, executor.invoke(new FibonacciTask(20)).intValue());
+    }
+
+    @Test
+    void testExceptionIsRethrown() {
+        WorkStealingExecutor.Task<Integer> failingTask = new WorkStealingExecutor.Task<>() {
+            @Override
+            protected Integer compute() {
+                throw new IllegalArgumentException("Failure");
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> executor.invoke(failingTask));
+        assertEquals(6765, executor.invoke(new FibonacciTask(20)).intValue());
+    }
+
+    @Test
+    void testInvokeFromWorkerCompletesTask() {
+        FibonacciTask innerTask = new FibonacciTask(10);
+        WorkStealingExecutor.Task<Integer> outerTask = new WorkStealingExecutor.Task<>() {
+            @Override
+            protected Integer compute() {
+                int result = executor.invoke(innerTask);
+                assertTrue(innerTask.isDone());
+                return result + innerTask.join();
+            }
+        };
+
+        assertEquals(110, executor.invoke(outerTask).intValue());
+    }
+
+    @Test
+    void testForkOutsideOfWorker() {
+        assertThrows(IllegalStateException.class, () -> new FibonacciTask(1).fork());
+    }
+
+    @Test
+    void testForkOfTaskBelongingToAnotherExecutor() {
+        try (WorkStealingExecutor otherExecutor = new WorkStealingExecutor(1)) {
+            WorkStealingExecutor.Task<Integer> forkingTask = new WorkStealingExecutor.Task<>() {
+                @Override
+                protected Integer compute() {
+                    FibonacciTask otherTask = new FibonacciTask(2);
+                    otherExecutor.invoke(otherTask);
+                    otherTask.fork();
+                    return otherTask.join();
+                }
+            };
+
+            assertThrows(IllegalStateException.class, () -> executor.invoke(forkingTask));
+        }
+    }
+
+    @Test
+    void testInvokeAfterClose() {
+        executor.close();
+
+        assertThrows(IllegalStateException.class, () -> executor.invoke(new FibonacciTask(1)));
+    }
+
+    @Test
+    void testJoinOfQueuedTaskAfterClose() throws Exception {
+        WorkStealingExecutor singleWorkerExecutor = new WorkStealingExecutor(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FutureTask<Integer> running = new FutureTask<>(() -> singleWorkerExecutor.invoke(new BlockingTask(started,
+                release)));
+        FutureTask<Integer> queued = new FutureTask<>(() -> singleWorkerExecutor.invoke(new FibonacciTask(2)));
+        Thread queuedCaller = new Thread(queued);
+        Thread closer = new Thread(singleWorkerExecutor::close);
+        try {
+            new Thread(running).start();
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            queuedCaller.start();
+            awaitState(queuedCaller, Thread.State.TIMED_WAITING);
+            closer.start();
+            awaitState(closer, Thread.State.WAITING);
+            release.countDown();
+            closer.join(TimeUnit.SECONDS.toMillis(10));
+
+            assertFalse(closer.isAlive());
+            assertEquals(1, running.get(10, TimeUnit.SECONDS).intValue());
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> queued.get(10, TimeUnit.SECONDS));
+            assertTrue(exception.getCause() instanceof CancellationException);
+        } finally {
+            release.countDown();
+            singleWorkerExecutor.close();
+        }
+    }
+
+    /**
+     * Compares the executor to one with a single task queue behind a lock, shared by all workers. Run with
+     * {@code mvn test -Dbenchmark=true -Dtest=WorkStealingExecutorTest}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkAgainstSharedQueue() {
+        long[] numbers = LongStream.range(0, 10_000_000).toArray();
+        long expectedSum = LongStream.of(numbers).sum();
+        for (int threshold : new int[]{100_000, 10_000, 1_000}) {
+            for (int parallelism : new int[]{1, 2, 4}) {
+                try (WorkStealingExecutor workStealingExecutor = new WorkStealingExecutor(parallelism)) {
+                    report("work stealing", parallelism, threshold, expectedSum, () -> workStealingExecutor
+                            .invoke(new SumTask(numbers, 0, numbers.length, threshold)));
+                }
+                try (SharedQueueExecutor sharedQueueExecutor = new SharedQueueExecutor(parallelism)) {
+                    report("shared queue", parallelism, threshold, expectedSum, () -> sharedQueueExecutor
+                            .invoke(new SharedSumTask(sharedQueueExecutor, numbers, 0, numbers.length, threshold)));
+                }
+            }
+        }
+    }
+
+    private static void report(String name, int parallelism, int threshold, long expectedSum, LongSupplier sum) {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(expectedSum, sum.getAsLong());
+        }
+        int runs = 20;
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            assertEquals(expectedSum, sum.getAsLong());
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        System.out.printf("%-14s workers: %d, threshold: %,7d, %,8.2f ms per sum%n",
+                name, parallelism, threshold, elapsedNanos / 1e6 / runs);
+    }
+
+    /**
+     * Waits until the thread blocks, i.e. the caller parks in {@code join()} or the closer waits for the worker
+     */
+    private static void awaitState(Thread thread, Thread.State state) {
+        while (thread.getState() != state) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static class SumTask extends WorkStealingExecutor.Task<Long> {
+
+        private static final int THRESHOLD = 1_000;
+
+        private final long[] numbers;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+
+        private SumTask(long[] numbers, int fromIndex, int toIndex) {
+            this(numbers, fromIndex, toIndex, THRESHOLD);
+        }
+
+        private SumTask(long[] numbers, int fromIndex, int toIndex, int threshold) {
+            this.numbers = numbers;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            if (toIndex - fromIndex <= threshold) {
+                return sum(numbers, fromIndex, toIndex);
+            }
+
+            int middle = (fromIndex + toIndex) >>> 1;
+            SumTask left = new SumTask(numbers, fromIndex, middle, threshold);
+            left.fork();
+            long rightSum = new SumTask(numbers, middle, toIndex, threshold).compute();
+            return left.join() + rightSum;
+        }
+
+    }
+
+    private static class FibonacciTask extends WorkStealingExecutor.Task<Integer> {
+
+        private final int n;
+
+        private FibonacciTask(int n) {
+            this.n = n;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (n <= 1) {
+                return n;
+            }
+
+            FibonacciTask first = new FibonacciTask(n - 1);
+            first.fork();
+            FibonacciTask second = new FibonacciTask(n - 2);
+            second.fork();
+            return second.join() + first.join();
+        }
+
+    }
+
+    private static class BlockingTask extends WorkStealingExecutor.Task<Integer> {
+
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        private BlockingTask(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        protected Integer compute() {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 1;
+        }
+
+    }
+
+    private static long sum(long[] numbers, int fromIndex, int toIndex) {
+        long sum = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            sum += numbers[i];
+        }
+        return sum;
+    }
+
+    /**
+     * A baseline executor for the benchmark: all workers take tasks from one {@link LinkedQueue} guarded by a lock,
+     * forked subtasks are added to the same queue, and a waiting worker runs queued tasks until the joined one is done
+     */
+    private static class SharedQueueExecutor implements AutoCloseable {
+
+        private static final long STACK_SIZE = 64L << 20;
+
+        private final Queue<SharedSumTask> tasks = new LinkedQueue<>();
+        private final Lock lock = new ReentrantLock();
+        private final Thread[] workers;
+        private volatile boolean shutdown;
+
+        private SharedQueueExecutor(int parallelism) {
+            workers = new Thread[parallelism];
+            for (int i = 0; i < parallelism; i++) {
+                // a waiting worker runs any queued task, so recursion may go deeper than with work stealing
+                workers[i] = new Thread(null, this::runWorker, "shared-queue-worker-" + i, STACK_SIZE);
+                workers[i].setDaemon(true);
+                workers[i].start();
+            }
+        }
+
+        private long invoke(SharedSumTask task) {
+            push(task);
+            while (!task.done) {
+                LockSupport.parkNanos(this, 50_000);
+            }
+            return task.result;
+        }
+
+        private void runWorker() {
+            while (!shutdown) {
+                if (!runOnce()) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+        private boolean runOnce() {
+            SharedSumTask task;
+            lock.lock();
+            try {
+                task = tasks.poll();
+            } finally {
+                lock.unlock();
+            }
+            if (Objects.isNull(task)) {
+                return false;
+            }
+
+            task.run();
+            return true;
+        }
+
+        private void push(SharedSumTask task) {
+            lock.lock();
+            try {
+                tasks.add(task);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            shutdown = true;
+            for (Thread worker : workers) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+    }
+
+    private static class SharedSumTask {
+
+        private final SharedQueueExecutor executor;
+        private final long[] numbers;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int threshold;
+        private volatile boolean done;
+        private long result;
+
+        private SharedSumTask(SharedQueueExecutor executor, long[] numbers, int fromIndex, int toIndex,
+                              int threshold) {
+            this.executor = executor;
+            this.numbers = numbers;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.threshold = threshold;
+        }
+
+        private void run() {
+            result = compute();
+            done = true;
+        }
+
+        private long compute() {
+            if (toIndex - fromIndex <= threshold) {
+                return sum(numbers, fromIndex, toIndex);
+            }
+
+            int middle = (fromIndex + toIndex) >>> 1;
+            SharedSumTask left = new SharedSumTask(executor, numbers, fromIndex, middle, threshold);
+            executor.push(left);
+            long rightSum = new SharedSumTask(executor, numbers, middle, toIndex, threshold).compute();
+            while (!left.done) {
+                if (!executor.runOnce()) {
+                    Thread.onSpinWait();
+                }
+            }
+            return left.result + rightSum;
+        }
+
+    }
+
+}